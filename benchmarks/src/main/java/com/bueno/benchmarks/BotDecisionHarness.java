@@ -0,0 +1,152 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.benchmarks.DecisionCorpus.Situation;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.BotServiceRegistry;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToLongBiFunction;
+
+//Replays the same corpus of decision situations through each decision method of every registered bot, reporting
+//latency percentiles and allocated bytes per decision, ranked from the most to the least expensive decision. Every
+//pass decides on new intel, converted before the pass starts, so neither the conversion nor the views cached by a
+//previous pass count in the measures.
+//Usage: java -cp benchmarks.jar com.bueno.benchmarks.BotDecisionHarness [corpus size] [measured passes]
+public class BotDecisionHarness {
+    private static final int DEFAULT_CORPUS_SIZE = 2_000;
+    private static final int DEFAULT_MEASURED_PASSES = 5;
+    private static final int WARMUP_PASSES = 5;
+
+    private static final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    //Keeps the decisions observable, so that the JIT cannot remove the calls whose results are not used.
+    private static volatile long sink;
+
+    private enum Decision {
+        CHOOSE_CARD((bot, intel) -> bot.chooseCard(intel).value().hashCode(), Situation::isChoosingCard),
+        DECIDE_IF_RAISES((bot, intel) -> bot.decideIfRaises(intel) ? 1 : 0, Situation::isDecidingIfRaises),
+        RAISE_RESPONSE(BotServiceProvider::getRaiseResponse, Situation::isRespondingToRaise),
+        MAO_DE_ONZE_RESPONSE((bot, intel) -> bot.getMaoDeOnzeResponse(intel) ? 1 : 0, Situation::isRespondingToMaoDeOnze);
+
+        private final ToLongBiFunction<BotServiceProvider, GameIntel> call;
+        private final Predicate<Situation> isApplicable;
+
+        Decision(ToLongBiFunction<BotServiceProvider, GameIntel> call, Predicate<Situation> isApplicable) {
+            this.call = call;
+            this.isApplicable = isApplicable;
+        }
+    }
+
+    private record Report(String botName, Decision decision, long decisions, long errors, long meanNanos,
+                          long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos, long bytesPerDecision) {
+    }
+
+    public static void main(String[] args) {
+        final int corpusSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_CORPUS_SIZE;
+        final int measuredPasses = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MEASURED_PASSES;
+        final List<Situation> corpus = DecisionCorpus.create(corpusSize, Fixtures.SEED);
+
+        final List<Report> reports = new ArrayList<>();
+        for (String botName : BotServiceRegistry.names())
+            for (Decision decision : Decision.values())
+                reports.add(profile(botName, decision, corpus, measuredPasses));
+
+        reports.sort(Comparator.comparingLong(Report::meanNanos).reversed());
+        print(reports, corpusSize, measuredPasses);
+    }
+
+    private static Report profile(String botName, Decision decision, List<Situation> situations, int measuredPasses) {
+        final List<Situation> corpus = situations.stream().filter(decision.isApplicable).toList();
+        final BotServiceProvider bot = BotServiceRegistry.load(botName);
+        final long[] nanos = new long[corpus.size() * measuredPasses];
+        long result = 0;
+        long errors = 0;
+
+        for (int pass = 0; pass < WARMUP_PASSES; pass++)
+            for (GameIntel intel : newIntels(corpus)) {
+                try {
+                    result += decision.call.applyAsLong(bot, intel);
+                } catch (RuntimeException e) {
+                    result++;
+                }
+            }
+
+        final long threadId = Thread.currentThread().getId();
+        long allocated = 0;
+        int decisions = 0;
+        for (int pass = 0; pass < measuredPasses; pass++) {
+            final List<GameIntel> intels = newIntels(corpus);
+            final long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+            for (GameIntel intel : intels) {
+                final long start = System.nanoTime();
+                try {
+                    result += decision.call.applyAsLong(bot, intel);
+                    nanos[decisions++] = System.nanoTime() - start;
+                } catch (RuntimeException e) {
+                    errors++;
+                }
+            }
+            allocated += threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        }
+        sink = result;
+
+        final long[] measured = Arrays.copyOf(nanos, decisions);
+        Arrays.sort(measured);
+        final long total = Arrays.stream(measured).sum();
+        final long calls = decisions + errors;
+        return new Report(botName, decision, decisions, errors,
+                decisions == 0 ? 0 : total / decisions,
+                percentile(measured, 0.50), percentile(measured, 0.90), percentile(measured, 0.99),
+                decisions == 0 ? 0 : measured[decisions - 1],
+                calls == 0 ? 0 : allocated / calls);
+    }
+
+    private static List<GameIntel> newIntels(List<Situation> situations) {
+        return situations.stream().map(Situation::newIntel).toList();
+    }
+
+    private static long percentile(long[] sortedValues, double percentile) {
+        if (sortedValues.length == 0) return 0;
+        final int index = (int) Math.ceil(percentile * sortedValues.length) - 1;
+        return sortedValues[Math.max(index, 0)];
+    }
+
+    private static void print(List<Report> reports, int corpusSize, int measuredPasses) {
+        System.out.printf("Bot decisions over %d situations x %d passes (latency in ns/decision)%n", corpusSize, measuredPasses);
+        final String format = "%4s  %-20s %-22s %10s %10s %10s %10s %12s %12s %8s%n";
+        System.out.printf(format, "Rank", "Bot", "Decision", "Mean", "p50", "p90", "p99", "Max", "Bytes/dec", "Errors");
+        int rank = 1;
+        for (Report report : reports)
+            System.out.printf(format, rank++, report.botName(), report.decision(), report.meanNanos(),
+                    report.p50Nanos(), report.p90Nanos(), report.p99Nanos(), report.maxNanos(),
+                    report.bytesPerDecision(), report.errors());
+    }
+}
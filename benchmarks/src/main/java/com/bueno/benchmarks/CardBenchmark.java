@@ -0,0 +1,84 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.TrucoCard;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+//Each invocation evaluates every card of the deck against the current vira, which changes at every invocation.
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OperationsPerInvocation(40)
+public class CardBenchmark {
+    private Card[] cards;
+    private TrucoCard[] trucoCards;
+    private int viraIndex;
+
+    @Setup
+    public void setUp() {
+        cards = Fixtures.allCards();
+        trucoCards = Arrays.stream(cards)
+                .map(card -> TrucoCard.of(CardRank.valueOf(card.getRank().name()), CardSuit.valueOf(card.getSuit().name())))
+                .toArray(TrucoCard[]::new);
+    }
+
+    private int nextVira() {
+        viraIndex = (viraIndex + 1) % cards.length;
+        return viraIndex;
+    }
+
+    @Benchmark
+    public void cardRelativeValue(Blackhole blackhole) {
+        final Card vira = cards[nextVira()];
+        for (Card card : cards) blackhole.consume(card.getRelativeValue(vira));
+    }
+
+    @Benchmark
+    public void cardCompareValueTo(Blackhole blackhole) {
+        final Card vira = cards[nextVira()];
+        final Card other = cards[(viraIndex + 7) % cards.length];
+        for (Card card : cards) blackhole.consume(card.compareValueTo(other, vira));
+    }
+
+    @Benchmark
+    public void trucoCardRelativeValue(Blackhole blackhole) {
+        final TrucoCard vira = trucoCards[nextVira()];
+        for (TrucoCard card : trucoCards) blackhole.consume(card.relativeValue(vira));
+    }
+
+    @Benchmark
+    public void trucoCardCompareValueTo(Blackhole blackhole) {
+        final TrucoCard vira = trucoCards[nextVira()];
+        final TrucoCard other = trucoCards[(viraIndex + 7) % trucoCards.length];
+        for (TrucoCard card : trucoCards) blackhole.consume(card.compareValueTo(other, vira));
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.usecases.game.dtos.GameDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//Conversions done at each request of the game use cases, which load and save the game through its dto.
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConverterBenchmark {
+    private Game game;
+    private GameDto gameDto;
+    private Intel intel;
+    private IntelDto intelDto;
+
+    @Setup
+    public void setUp() {
+        game = Fixtures.newGameWaitingForSecondCard();
+        gameDto = GameConverter.toDto(game);
+        intel = game.getIntel();
+        intelDto = IntelConverter.toDto(intel);
+    }
+
+    @Benchmark
+    public GameDto gameToDto() {
+        return GameConverter.toDto(game);
+    }
+
+    @Benchmark
+    public Game gameFromDto() {
+        return GameConverter.fromDto(gameDto);
+    }
+
+    @Benchmark
+    public IntelDto intelToDto() {
+        return IntelConverter.toDto(intel);
+    }
+
+    @Benchmark
+    public Intel intelFromDto() {
+        return IntelConverter.fromDto(intelDto);
+    }
+}
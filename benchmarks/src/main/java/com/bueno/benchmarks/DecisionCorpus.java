@@ -0,0 +1,106 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deal;
+import com.bueno.domain.entities.deck.DealSource;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.intel.PossibleActions;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.spi.model.GameIntel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+//Reproducible situations in which a bot must decide: random scores (including mão de onze), hands stopped after a
+//random number of played cards, and, sometimes, a pending raise request. The same seed always gives the same corpus.
+//Each situation is labeled with the decisions the engine may ask for in it, following the order of BotGameEngine.
+//Situations keep the hand instead of its intel, since GameIntel caches its derived views: each pass converts the
+//hand again, so bots never find the views computed in a previous pass.
+final class DecisionCorpus {
+    private static final int MAX_CARDS_PLAYED = 5;
+
+    record Situation(Player player, Hand hand, boolean isChoosingCard, boolean isDecidingIfRaises,
+                     boolean isRespondingToRaise, boolean isRespondingToMaoDeOnze) {
+        GameIntel newIntel() {
+            return SpiModelAdapter.toGameIntel(player, hand);
+        }
+    }
+
+    private DecisionCorpus() {
+    }
+
+    static List<Situation> create(int size, long seed) {
+        final SplittableRandom random = new SplittableRandom(seed);
+        final DealSource deals = DealSource.shuffled(random);
+        final List<Situation> corpus = new ArrayList<>(size);
+        while (corpus.size() < size) {
+            final Hand hand = newHand(deals.nextDeal(), random);
+            if (hand.isDone()) continue;
+            corpus.add(situationOf(hand));
+        }
+        return List.copyOf(corpus);
+    }
+
+    private static Situation situationOf(Hand hand) {
+        final PossibleActions actions = hand.getPossibleActions();
+        final boolean isWaitingMaoDeOnze = hand.isMaoDeOnze() && hand.getPoints() == HandPoints.ONE;
+        final boolean isDecidingIfRaises = actions.contains(PossibleAction.RAISE) && !actions.contains(PossibleAction.QUIT);
+        final boolean isRespondingToRaise = !isWaitingMaoDeOnze && actions.contains(PossibleAction.QUIT);
+        return new Situation(hand.getCurrentPlayer(), hand, actions.contains(PossibleAction.PLAY), isDecidingIfRaises,
+                isRespondingToRaise, isWaitingMaoDeOnze);
+    }
+
+    private static Hand newHand(Deal deal, SplittableRandom random) {
+        final Player firstToPlay = new Player(new ArrayList<>(deal.firstToPlayCards()), "Player1",
+                new UUID(random.nextLong(), random.nextLong()), random.nextInt(12), false);
+        final Player lastToPlay = new Player(new ArrayList<>(deal.lastToPlayCards()), "Player2",
+                new UUID(random.nextLong(), random.nextLong()), random.nextInt(12), false);
+        final Hand hand = new Hand(firstToPlay, lastToPlay, deal.vira());
+
+        final int cardsToPlay = random.nextInt(MAX_CARDS_PLAYED + 1);
+        for (int i = 0; i < cardsToPlay && canPlay(hand); i++) {
+            final Player player = hand.getCurrentPlayer();
+            final List<Card> cards = player.getCards();
+            final Card card = player.play(cards.get(random.nextInt(cards.size())));
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, card);
+            else hand.playSecondCard(player, card);
+        }
+
+        if (canRaise(hand) && random.nextInt(4) == 0) hand.raise(hand.getCurrentPlayer());
+        return hand;
+    }
+
+    private static boolean canPlay(Hand hand) {
+        return !hand.isDone() && hand.getPossibleActions().contains(PossibleAction.PLAY);
+    }
+
+    private static boolean canRaise(Hand hand) {
+        return !hand.isDone() && hand.getPossibleActions().contains(PossibleAction.RAISE);
+    }
+}
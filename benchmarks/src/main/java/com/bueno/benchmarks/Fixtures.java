@@ -0,0 +1,60 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.DealSource;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+//Builds the same games for every benchmark run, so that results of different releases are comparable.
+final class Fixtures {
+    static final long SEED = 20240501L;
+
+    private Fixtures() {
+    }
+
+    static Game newGame() {
+        final SplittableRandom random = new SplittableRandom(SEED);
+        final Player player1 = Player.of(new UUID(random.nextLong(), random.nextLong()), "Player1");
+        final Player player2 = Player.of(new UUID(random.nextLong(), random.nextLong()), "Player2");
+        return new Game(player1, player2, new UUID(random.nextLong(), random.nextLong()), DealSource.shuffled(random));
+    }
+
+    //Plays the first card of the current hand, leaving it waiting for the opponent to play.
+    static Game newGameWaitingForSecondCard() {
+        final Game game = newGame();
+        final Hand hand = game.currentHand();
+        final Player player = hand.getCurrentPlayer();
+        hand.playFirstCard(player, player.play(player.getCards().get(0)));
+        return game;
+    }
+
+    static Card[] allCards() {
+        return new Deck().take(40).toArray(Card[]::new);
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//Plays a whole hand through its states: a raise request, its acceptance, and the rounds until the hand is done.
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HandBenchmark {
+    private Player firstToPlay;
+    private Player lastToPlay;
+    private List<Card> firstToPlayCards;
+    private List<Card> lastToPlayCards;
+    private Card vira;
+
+    @Setup
+    public void setUp() {
+        final Game game = Fixtures.newGame();
+        final Hand hand = game.currentHand();
+        firstToPlay = hand.getFirstToPlay();
+        lastToPlay = hand.getLastToPlay();
+        firstToPlayCards = List.copyOf(firstToPlay.getCards());
+        lastToPlayCards = List.copyOf(lastToPlay.getCards());
+        vira = hand.getVira();
+    }
+
+    @Benchmark
+    public Hand lifecycle() {
+        firstToPlay.setCards(firstToPlayCards);
+        lastToPlay.setCards(lastToPlayCards);
+        final Hand hand = new Hand(firstToPlay, lastToPlay, vira);
+
+        hand.raise(firstToPlay);
+        hand.accept(lastToPlay);
+
+        while (!hand.isDone()) {
+            final Player player = hand.getCurrentPlayer();
+            final Card card = player.play(player.getCards().get(0));
+            if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(player, card);
+            else hand.playSecondCard(player, card);
+        }
+        return hand;
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Deal;
+import com.bueno.domain.entities.deck.DealSource;
+import com.bueno.domain.usecases.game.service.HandSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+//Solves seeded deals with perfect information, with and without raises. The solver keeps its transposition table
+//between deals, as it does when solving all the hands of a simulation run.
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HandSolverBenchmark {
+    private static final int NUMBER_OF_DEALS = 4096;
+
+    @Param({"1", "12"})
+    private int maxHandPoints;
+
+    private Deal[] deals;
+    private HandSolver solver;
+    private int dealIndex;
+
+    @Setup
+    public void setUp() {
+        final DealSource dealSource = DealSource.shuffled(new SplittableRandom(Fixtures.SEED));
+        deals = new Deal[NUMBER_OF_DEALS];
+        for (int i = 0; i < NUMBER_OF_DEALS; i++) deals[i] = dealSource.nextDeal();
+        solver = new HandSolver();
+    }
+
+    @Benchmark
+    public int solve() {
+        final Deal deal = deals[dealIndex++ & NUMBER_OF_DEALS - 1];
+        return solver.solve(deal.vira(), deal.firstToPlayCards(), deal.lastToPlayCards(), maxHandPoints);
+    }
+}
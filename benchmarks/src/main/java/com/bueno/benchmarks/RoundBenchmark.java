@@ -0,0 +1,62 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.benchmarks;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.hand.Round;
+import com.bueno.domain.entities.player.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RoundBenchmark {
+    private Round[] rounds;
+    private int roundIndex;
+
+    //Rounds of every pair of cards of the deck against a fixed vira, including ties and manilhas.
+    @Setup
+    public void setUp() {
+        final Player player1 = Player.of(UUID.randomUUID(), "Player1");
+        final Player player2 = Player.of(UUID.randomUUID(), "Player2");
+        final Card[] cards = Fixtures.allCards();
+        final Card vira = cards[0];
+        rounds = new Round[(cards.length - 1) * (cards.length - 2)];
+        int index = 0;
+        for (int i = 1; i < cards.length; i++)
+            for (int j = 1; j < cards.length; j++)
+                if (i != j) rounds[index++] = new Round(player1, cards[i], player2, cards[j], vira);
+    }
+
+    @Benchmark
+    public Round play() {
+        roundIndex = (roundIndex + 1) % rounds.length;
+        final Round round = rounds[roundIndex];
+        round.play();
+        return round;
+    }
+}
@@ -22,6 +22,7 @@ package com.bueno.impl.dummybot;
 
 import com.bueno.spi.model.CardToPlay;
 import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotLifecycle;
 import com.bueno.spi.service.BotServiceProvider;
 
 import java.util.Optional;
@@ -47,4 +48,9 @@ public class DummyBot implements BotServiceProvider {
     public CardToPlay chooseCard(GameIntel intel) {
         return CardToPlay.of(intel.getCards().get(0));
     }
+
+    @Override
+    public BotLifecycle getLifecycle() {
+        return BotLifecycle.SINGLETON;
+    }
 }
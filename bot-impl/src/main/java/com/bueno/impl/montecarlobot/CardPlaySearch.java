@@ -0,0 +1,148 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.impl.montecarlobot;
+
+//Plays the rest of a hand with both players seeing all the cards and choosing their best moves. Positions are packed
+//in a long holding the cards of the bot and of its opponent as sorted card values, the card to play against, the
+//result of the first two rounds, the number of rounds played and the player who leads the round.
+final class CardPlaySearch {
+
+    static final int BOT = 0;
+    static final int OPPONENT = 1;
+    static final int DRAW = 2;
+    static final int NO_ROUND = 3;
+    static final int EMPTY = 15;
+    static final int CLOSED = 0;
+
+    static final int BOT_CARDS = 0;
+    static final int OPPONENT_CARDS = 12;
+    static final int TABLE_CARD = 24;
+    static final int FIRST_ROUND = 28;
+    static final int SECOND_ROUND = 30;
+    static final int ROUNDS_PLAYED = 32;
+    static final int LEADER = 34;
+    private static final long OVER = 1L << 40;
+
+    private CardPlaySearch() {
+    }
+
+    //Returns 1 if the bot wins the hand, -1 if it loses, or 0 if the hand is a draw.
+    static int value(long position) {
+        final int player = playerInTurn(position);
+        final int cardsShift = player == BOT ? BOT_CARDS : OPPONENT_CARDS;
+        final int cards = get(position, cardsShift, 12);
+        final boolean canDiscard = get(position, ROUNDS_PLAYED, 2) > 0;
+
+        int best = player == BOT ? -1 : 1;
+        int previousCard = -1;
+        for (int slot = 0; slot < 3; slot++) {
+            final int card = cards >>> 4 * slot & 0xF;
+            if (card == EMPTY || card == previousCard) continue;
+            previousCard = card;
+            final long played = with(position, cardsShift, 12, withoutSlot(cards, slot));
+            best = best(player, best, play(played, card));
+            if (canDiscard) best = best(player, best, play(played, CLOSED));
+            if (best == (player == BOT ? 1 : -1)) return best;
+        }
+        return best;
+    }
+
+    //Plays a card that has already been removed from the cards of the player in turn.
+    static int play(long position, int card) {
+        final long next = step(position, card);
+        return isOver(next) ? outcomeOf(next) : value(next);
+    }
+
+    //Returns the position after the card is played, or the outcome of the hand if the card ends it.
+    static long step(long position, int card) {
+        final int leader = get(position, LEADER, 1);
+        final int tableCard = get(position, TABLE_CARD, 4);
+        if (tableCard == EMPTY) return with(position, TABLE_CARD, 4, card);
+
+        final int roundResult = tableCard > card ? leader : tableCard < card ? 1 - leader : DRAW;
+        final int roundsPlayed = get(position, ROUNDS_PLAYED, 2) + 1;
+        final int firstRound = roundsPlayed == 1 ? roundResult : get(position, FIRST_ROUND, 2);
+
+        if (roundsPlayed == 2) {
+            if (firstRound == DRAW && roundResult != DRAW) return over(roundResult);
+            if (firstRound != DRAW && roundResult == DRAW) return over(firstRound);
+            if (roundResult != DRAW && roundResult == firstRound) return over(roundResult);
+        }
+        if (roundsPlayed == 3) return over(roundResult == DRAW && firstRound != DRAW ? firstRound : roundResult);
+
+        long next = with(position, TABLE_CARD, 4, EMPTY);
+        next = with(next, roundsPlayed == 1 ? FIRST_ROUND : SECOND_ROUND, 2, roundResult);
+        next = with(next, ROUNDS_PLAYED, 2, roundsPlayed);
+        if (roundResult != DRAW) next = with(next, LEADER, 1, roundResult);
+        return next;
+    }
+
+    private static long over(int winner) {
+        return OVER | winner;
+    }
+
+    static boolean isOver(long position) {
+        return (position & OVER) != 0;
+    }
+
+    //Returns 1 if the bot has won the hand that is over, -1 if it has lost, or 0 if the hand is a draw.
+    static int outcomeOf(long position) {
+        return outcomeOfWinner((int) (position & 3));
+    }
+
+    static int playerInTurn(long position) {
+        final int leader = get(position, LEADER, 1);
+        return get(position, TABLE_CARD, 4) == EMPTY ? leader : 1 - leader;
+    }
+
+    private static int outcomeOfWinner(int winner) {
+        return winner == DRAW ? 0 : winner == BOT ? 1 : -1;
+    }
+
+    private static int best(int player, int value, int other) {
+        return player == BOT ? Math.max(value, other) : Math.min(value, other);
+    }
+
+    static int withoutSlot(int cards, int slot) {
+        return switch (slot) {
+            case 0 -> sorted(cards >>> 4 & 0xF, cards >>> 8 & 0xF, EMPTY);
+            case 1 -> sorted(cards & 0xF, cards >>> 8 & 0xF, EMPTY);
+            default -> sorted(cards & 0xF, cards >>> 4 & 0xF, EMPTY);
+        };
+    }
+
+    static int sorted(int a, int b, int c) {
+        final int low = Math.min(a, b);
+        final int high = Math.max(a, b);
+        final int middle = Math.max(low, Math.min(high, c));
+        return Math.min(low, c) | middle << 4 | Math.max(high, c) << 8;
+    }
+
+    static int get(long position, int shift, int bits) {
+        return (int) (position >>> shift & ((1L << bits) - 1));
+    }
+
+    static long with(long position, int shift, int bits, int value) {
+        final long mask = ((1L << bits) - 1) << shift;
+        return position & ~mask | ((long) value << shift) & mask;
+    }
+}
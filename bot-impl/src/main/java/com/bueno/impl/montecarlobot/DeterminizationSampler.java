@@ -0,0 +1,114 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.impl.montecarlobot;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+//Deals the unseen cards to the opponent many times and sums, for each position of a hand view, the result of playing
+//the rest of the hand with the sampled cards. Samples are split in tasks run by a fork-join pool, each one with its
+//own random stream, so the sums only depend on the seed of the view as long as the time budget is not reached.
+final class DeterminizationSampler {
+
+    private static final int SAMPLES_PER_TASK = 64;
+
+    private final ForkJoinPool pool;
+    private final int iterations;
+    private final long timeBudgetNanos;
+
+    DeterminizationSampler(ForkJoinPool pool, int iterations, long timeBudgetNanos) {
+        this.pool = pool;
+        this.iterations = iterations;
+        this.timeBudgetNanos = timeBudgetNanos;
+    }
+
+    //Returns the sum of the results of each position, followed by the number of samples.
+    long[] sample(HandView view) {
+        final long deadline = timeBudgetNanos > 0 ? System.nanoTime() + timeBudgetNanos : Long.MAX_VALUE;
+        final int tasks = iterations > 0 ? (iterations + SAMPLES_PER_TASK - 1) / SAMPLES_PER_TASK : pool.getParallelism();
+        return pool.invoke(new SamplingTask(view, 0, tasks, deadline));
+    }
+
+    private final class SamplingTask extends RecursiveTask<long[]> {
+        private final HandView view;
+        private final int firstTask;
+        private final int lastTask;
+        private final long deadline;
+
+        private SamplingTask(HandView view, int firstTask, int lastTask, long deadline) {
+            this.view = view;
+            this.firstTask = firstTask;
+            this.lastTask = lastTask;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (lastTask - firstTask > 1) {
+                final int middleTask = (firstTask + lastTask) >>> 1;
+                final SamplingTask left = new SamplingTask(view, firstTask, middleTask, deadline);
+                left.fork();
+                final long[] sums = new SamplingTask(view, middleTask, lastTask, deadline).compute();
+                final long[] leftSums = left.join();
+                for (int i = 0; i < sums.length; i++) sums[i] += leftSums[i];
+                return sums;
+            }
+            return sampleTask();
+        }
+
+        //Every task takes at least one sample, so a decision is never made without samples.
+        private long[] sampleTask() {
+            final int numberOfPositions = view.numberOfPositions();
+            final long[] sums = new long[numberOfPositions + 1];
+            final SplittableRandom random = new SplittableRandom(view.seed() * 0x9E3779B97F4A7C15L + firstTask);
+            final int[] unseen = new int[view.numberOfUnseenCards()];
+            for (int i = 0; i < unseen.length; i++) unseen[i] = view.valueOfUnseenCard(i);
+            final int samples = iterations > 0 ? Math.min(SAMPLES_PER_TASK, iterations - firstTask * SAMPLES_PER_TASK)
+                    : Integer.MAX_VALUE;
+
+            for (int sample = 0; sample < samples && (sample == 0 || System.nanoTime() < deadline); sample++) {
+                final int opponentCards = deal(unseen, view.opponentCards(), random);
+                for (int position = 0; position < numberOfPositions; position++)
+                    sums[position] += view.evaluate(position, opponentCards);
+                sums[numberOfPositions]++;
+            }
+            return sums;
+        }
+
+        //Partially shuffles the unseen cards and takes the first ones as the opponent cards.
+        private int deal(int[] unseen, int numberOfCards, SplittableRandom random) {
+            for (int i = 0; i < numberOfCards; i++) {
+                final int j = i + random.nextInt(unseen.length - i);
+                final int card = unseen[j];
+                unseen[j] = unseen[i];
+                unseen[i] = card;
+            }
+            return CardPlaySearch.sorted(cardAt(unseen, 0, numberOfCards), cardAt(unseen, 1, numberOfCards),
+                    cardAt(unseen, 2, numberOfCards));
+        }
+
+        private int cardAt(int[] cards, int index, int numberOfCards) {
+            return index < numberOfCards ? cards[index] : CardPlaySearch.EMPTY;
+        }
+    }
+}
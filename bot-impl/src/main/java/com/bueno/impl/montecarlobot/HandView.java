@@ -0,0 +1,205 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.impl.montecarlobot;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.CardValues;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.bueno.impl.montecarlobot.CardPlaySearch.*;
+
+//The hand as seen by the bot: its cards, the cards it has not seen, and the positions to evaluate once the cards of
+//the opponent are sampled. When it is the bot turn, there is a position for each card it may play or discard, and the
+//bot picks the best of them. Otherwise, the positions are the ones the bot may face and their values are averaged.
+final class HandView {
+
+    private final long[] positions;
+    private final int[] playedCards;
+    private final List<CardToPlay> candidates;
+    private final int[] unseenValues;
+    private final int opponentCards;
+    private final long seed;
+
+    private HandView(long[] positions, int[] playedCards, List<CardToPlay> candidates, int[] unseenValues,
+                     int opponentCards, long seed) {
+        this.positions = positions;
+        this.playedCards = playedCards;
+        this.candidates = candidates;
+        this.unseenValues = unseenValues;
+        this.opponentCards = opponentCards;
+        this.seed = seed;
+    }
+
+    static HandView forBotTurn(GameIntel intel) {
+        final IntelReader reader = new IntelReader(intel);
+        final long root = reader.positionLedBy(reader.tableOwner().orElse(BOT));
+        final int botCards = get(root, BOT_CARDS, 12);
+        final List<TrucoCard> cards = intel.getCardsSortedByValue();
+
+        final List<CardToPlay> candidates = new ArrayList<>();
+        final List<Long> positions = new ArrayList<>();
+        final List<Integer> playedCards = new ArrayList<>();
+        for (int slot = 0; slot < cards.size(); slot++) {
+            candidates.add(CardToPlay.of(cards.get(slot)));
+            positions.add(with(root, BOT_CARDS, 12, withoutSlot(botCards, slot)));
+            playedCards.add(botCards >>> 4 * slot & 0xF);
+        }
+        if (!intel.getRoundResults().isEmpty()) for (int slot = 0; slot < cards.size(); slot++) {
+            candidates.add(CardToPlay.discard(cards.get(slot)));
+            positions.add(with(root, BOT_CARDS, 12, withoutSlot(botCards, slot)));
+            playedCards.add(CLOSED);
+        }
+        return reader.viewOf(positions.stream().mapToLong(Long::longValue).toArray(),
+                playedCards.stream().mapToInt(Integer::intValue).toArray(), candidates);
+    }
+
+    static HandView forOpponentTurn(GameIntel intel) {
+        final IntelReader reader = new IntelReader(intel);
+        final long position = reader.positionLedBy(reader.tableOwner().orElseGet(reader::leaderOfRound));
+        return reader.viewOf(new long[]{position}, new int[]{EMPTY}, List.of());
+    }
+
+    //Before the first card of a hand, the bot does not know which player leads, so it considers both.
+    static HandView beforeFirstCard(GameIntel intel) {
+        final IntelReader reader = new IntelReader(intel);
+        final long[] positions = {reader.positionLedBy(BOT), reader.positionLedBy(OPPONENT)};
+        return reader.viewOf(positions, new int[]{EMPTY, EMPTY}, List.of());
+    }
+
+    int numberOfPositions() {
+        return positions.length;
+    }
+
+    int numberOfUnseenCards() {
+        return unseenValues.length;
+    }
+
+    int valueOfUnseenCard(int unseenCardIndex) {
+        return unseenValues[unseenCardIndex];
+    }
+
+    int opponentCards() {
+        return opponentCards;
+    }
+
+    long seed() {
+        return seed;
+    }
+
+    int evaluate(int position, int sampledOpponentCards) {
+        final long sampled = with(positions[position], OPPONENT_CARDS, 12, sampledOpponentCards);
+        return playedCards[position] == EMPTY ? CardPlaySearch.value(sampled) : CardPlaySearch.play(sampled, playedCards[position]);
+    }
+
+    boolean isChoosingCard() {
+        return !candidates.isEmpty();
+    }
+
+    CardToPlay candidate(int position) {
+        return candidates.get(position);
+    }
+
+    //Reads the state of the card play from the intel. The card to play against may be the one the bot played, if the
+    //opponent has raised before answering it, and in that case the bot has already played its card in the round.
+    private static final class IntelReader {
+        private final GameIntel intel;
+        private final int viraIndex;
+        private final int roundsPlayed;
+
+        private IntelReader(GameIntel intel) {
+            this.intel = intel;
+            this.viraIndex = intel.getVira().index();
+            this.roundsPlayed = intel.getRoundResults().size();
+        }
+
+        private Optional<Integer> tableOwner() {
+            return intel.getOpponentCard().map(card -> intel.getCards().size() + roundsPlayed >= 3 ? OPPONENT : BOT);
+        }
+
+        //The winner of a round leads the next one, and the leader is kept after a draw. If every round has been a
+        //draw, the first to play is not known, so the opponent is assumed to lead.
+        private int leaderOfRound() {
+            final List<GameIntel.RoundResult> results = intel.getRoundResults();
+            for (int i = results.size() - 1; i >= 0; i--) {
+                if (results.get(i) == GameIntel.RoundResult.WON) return BOT;
+                if (results.get(i) == GameIntel.RoundResult.LOST) return OPPONENT;
+            }
+            return OPPONENT;
+        }
+
+        private long positionLedBy(int leader) {
+            final List<GameIntel.RoundResult> results = intel.getRoundResults();
+            final List<TrucoCard> cards = intel.getCards();
+            long position = with(0L, BOT_CARDS, 12, sorted(valueAt(cards, 0), valueAt(cards, 1), valueAt(cards, 2)));
+            position = with(position, OPPONENT_CARDS, 12, sorted(EMPTY, EMPTY, EMPTY));
+            position = with(position, TABLE_CARD, 4, intel.getOpponentCard().map(this::valueOf).orElse(EMPTY));
+            position = with(position, FIRST_ROUND, 2, results.isEmpty() ? NO_ROUND : ownerOf(results.get(0)));
+            position = with(position, SECOND_ROUND, 2, results.size() < 2 ? NO_ROUND : ownerOf(results.get(1)));
+            position = with(position, ROUNDS_PLAYED, 2, Math.min(roundsPlayed, 2));
+            return with(position, LEADER, 1, leader);
+        }
+
+        private int ownerOf(GameIntel.RoundResult result) {
+            return switch (result) {
+                case WON -> BOT;
+                case LOST -> OPPONENT;
+                case DREW -> DRAW;
+            };
+        }
+
+        private int valueAt(List<TrucoCard> cards, int index) {
+            return index < cards.size() ? valueOf(cards.get(index)) : EMPTY;
+        }
+
+        private int valueOf(TrucoCard card) {
+            return card.index() == CardValues.CLOSED ? CLOSED : CardValues.relativeValue(viraIndex, card.index()) + 1;
+        }
+
+        private HandView viewOf(long[] positions, int[] playedCards, List<CardToPlay> candidates) {
+            final List<TrucoCard> unseenCards = intel.getUnseenCards();
+            final int numberOfUnseen = unseenCards.size();
+            final int[] unseenValues = new int[numberOfUnseen];
+            for (int i = 0; i < numberOfUnseen; i++) unseenValues[i] = valueOf(unseenCards.get(i));
+
+            final boolean opponentHasPlayed = tableOwner().filter(owner -> owner == OPPONENT).isPresent();
+            final int opponentCards = Math.max(0, Math.min(numberOfUnseen, 3 - roundsPlayed - (opponentHasPlayed ? 1 : 0)));
+            return new HandView(positions, playedCards, candidates, unseenValues, opponentCards, seedOf());
+        }
+
+        //The same intel always gives the same samples, so decisions are reproducible under an iteration budget.
+        private long seedOf() {
+            long seed = viraIndex;
+            for (TrucoCard card : intel.getCards()) seed = seed * 41 + card.index();
+            for (TrucoCard card : intel.getOpenCards()) seed = seed * 41 + card.index();
+            seed = seed * 41 + intel.getOpponentCard().map(TrucoCard::index).orElse(CardValues.NUMBER_OF_INDEXES);
+            for (GameIntel.RoundResult result : intel.getRoundResults()) seed = seed * 3 + result.ordinal();
+            seed = seed * 13 + intel.getScore();
+            seed = seed * 13 + intel.getOpponentScore();
+            return seed * 13 + intel.getHandPoints();
+        }
+    }
+}
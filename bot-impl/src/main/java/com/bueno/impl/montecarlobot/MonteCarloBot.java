@@ -0,0 +1,122 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.impl.montecarlobot;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.service.BotLifecycle;
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+//Decides by sampling the cards the opponent may hold, i.e., the cards not seen in the hand, and playing the rest of
+//the hand for each sample as if both players could see all cards. The expected result of each card guides the card
+//to play, and the expected result of the hand guides the bets. The more samples it takes, the better it plays, so the
+//number of samples per decision and a time limit for each decision are configurable. By default, they are read from
+//the ctruco.montecarlo.iterations and ctruco.montecarlo.time-budget-millis system properties. Since tournaments and
+//evaluations play every registered bot, the default takes few samples: a game of this bot still costs several times
+//a game between rule based bots, and more samples barely improve its results. Samples are taken by a pool of its
+//own, so the bot never runs nor waits for the tasks of the common pool, where games are simulated.
+public class MonteCarloBot implements BotServiceProvider {
+
+    public static final String ITERATIONS_PROPERTY = "ctruco.montecarlo.iterations";
+    public static final String TIME_BUDGET_PROPERTY = "ctruco.montecarlo.time-budget-millis";
+    private static final int DEFAULT_ITERATIONS = 128;
+
+    //Expected results of the hand, from -1 (sure loss) to 1 (sure win), needed to ask for or to place a raise.
+    private static final double RAISE_EXPECTATION = 0.5;
+    private static final double RE_RAISE_EXPECTATION = 0.75;
+
+    private final DeterminizationSampler sampler;
+
+    public MonteCarloBot() {
+        this(Integer.getInteger(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS),
+                Duration.ofMillis(Long.getLong(TIME_BUDGET_PROPERTY, 0L)), SamplingPool.POOL);
+    }
+
+    //A positive number of iterations limits the samples per decision, and a positive time budget limits the time to
+    //take them. If both are given, sampling stops at the first limit reached.
+    public MonteCarloBot(int iterations, Duration timeBudget, ForkJoinPool pool) {
+        Objects.requireNonNull(timeBudget, "Time budget must not be null!");
+        Objects.requireNonNull(pool, "Pool must not be null!");
+        if (iterations <= 0 && (timeBudget.isZero() || timeBudget.isNegative()))
+            throw new IllegalArgumentException("Either iterations or time budget must be positive.");
+        this.sampler = new DeterminizationSampler(pool, iterations, Math.max(0, timeBudget.toNanos()));
+    }
+
+    //Accepting makes the hand worth 3 points, while quitting loses 1 point.
+    @Override
+    public boolean getMaoDeOnzeResponse(GameIntel intel) {
+        return 3 * expectationOf(HandView.beforeFirstCard(intel)) > -1;
+    }
+
+    @Override
+    public boolean decideIfRaises(GameIntel intel) {
+        return expectationOf(HandView.forBotTurn(intel)) >= RAISE_EXPECTATION;
+    }
+
+    @Override
+    public CardToPlay chooseCard(GameIntel intel) {
+        final HandView view = HandView.forBotTurn(intel);
+        return view.candidate(bestPosition(sampler.sample(view), view.numberOfPositions()));
+    }
+
+    //Accepting makes the hand worth the next points, while quitting loses the current ones.
+    @Override
+    public int getRaiseResponse(GameIntel intel) {
+        final double expectation = expectationOf(HandView.forOpponentTurn(intel));
+        final int handPoints = intel.getHandPoints();
+        final int raisedPoints = handPoints == 1 ? 3 : handPoints + 3;
+        if (expectation >= RE_RAISE_EXPECTATION) return 1;
+        return expectation * raisedPoints < -handPoints ? -1 : 0;
+    }
+
+    @Override
+    public BotLifecycle getLifecycle() {
+        return BotLifecycle.SINGLETON;
+    }
+
+    //In its turn, the bot expects the result of its best card. Otherwise, it expects the mean of the positions it
+    //may face.
+    private double expectationOf(HandView view) {
+        final long[] sums = sampler.sample(view);
+        final int numberOfPositions = view.numberOfPositions();
+        final long samples = sums[numberOfPositions];
+        if (view.isChoosingCard()) return (double) sums[bestPosition(sums, numberOfPositions)] / samples;
+        long total = 0;
+        for (int position = 0; position < numberOfPositions; position++) total += sums[position];
+        return (double) total / (samples * numberOfPositions);
+    }
+
+    private static final class SamplingPool {
+        private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    //Candidates are sorted from the weakest card, so ties are broken in favour of saving the strongest cards.
+    private static int bestPosition(long[] sums, int numberOfPositions) {
+        int best = 0;
+        for (int position = 1; position < numberOfPositions; position++) if (sums[position] > sums[best]) best = position;
+        return best;
+    }
+}
@@ -2,6 +2,7 @@ import com.aah.refactor.me.RefactorMePleaseBot;
 import com.abel.francisco.fogao6boca.Fogao6Boca;
 import com.brito.macena.boteco.BotEco;
 import com.bueno.impl.dummybot.DummyBot;
+import com.bueno.impl.montecarlobot.MonteCarloBot;
 import com.carvalho.candido.tomegapbot.GapBot;
 import com.contiero.lemes.atrasabot.AtrasaBot;
 import com.felipe.fabiano.truccard.Truccard;
@@ -17,6 +18,7 @@ module bot.impl {
 
     exports com.abel.francisco.fogao6boca;
     exports com.bueno.impl.dummybot;
+    exports com.bueno.impl.montecarlobot;
     exports com.aah.refactor.me;
     exports com.contiero.lemes.atrasabot;
     exports com.felipe.fabiano.truccard;
@@ -35,5 +37,6 @@ module bot.impl {
             BotEco,
             MoedorDeCana,
             Fogao6Boca,
-            SkillDiffBot;
+            SkillDiffBot,
+            MonteCarloBot;
 }
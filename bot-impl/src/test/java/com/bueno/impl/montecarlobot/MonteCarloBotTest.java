@@ -0,0 +1,151 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.impl.montecarlobot;
+
+import com.bueno.spi.model.CardRank;
+import com.bueno.spi.model.CardSuit;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.bueno.spi.model.GameIntel.RoundResult.LOST;
+import static com.bueno.spi.model.GameIntel.RoundResult.WON;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloBotTest {
+
+    private final TrucoCard vira = TrucoCard.of(CardRank.FOUR, CardSuit.CLUBS);
+    private MonteCarloBot sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new MonteCarloBot(256, Duration.ZERO, ForkJoinPool.commonPool());
+    }
+
+    @Test
+    @DisplayName("Should play one of its cards")
+    void shouldPlayOneOfItsCards() {
+        final List<TrucoCard> cards = List.of(TrucoCard.of(CardRank.SIX, CardSuit.HEARTS),
+                TrucoCard.of(CardRank.KING, CardSuit.SPADES), TrucoCard.of(CardRank.TWO, CardSuit.DIAMONDS));
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(cards, 0)
+                .opponentScore(0)
+                .build();
+
+        final CardToPlay cardToPlay = sut.chooseCard(intel);
+
+        assertTrue(cards.contains(cardToPlay.content()));
+        assertFalse(cardToPlay.isDiscard());
+    }
+
+    @Test
+    @DisplayName("Should play the cheapest card that wins the hand")
+    void shouldPlayTheCheapestCardThatWinsTheHand() {
+        final TrucoCard opponentCard = TrucoCard.of(CardRank.KING, CardSuit.HEARTS);
+        final TrucoCard ace = TrucoCard.of(CardRank.ACE, CardSuit.SPADES);
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(WON), List.of(vira, TrucoCard.of(CardRank.SEVEN, CardSuit.HEARTS),
+                        TrucoCard.of(CardRank.SIX, CardSuit.CLUBS), opponentCard), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.THREE, CardSuit.SPADES), ace), 0)
+                .opponentScore(0)
+                .opponentCard(opponentCard)
+                .build();
+
+        assertEquals(CardToPlay.of(ace), sut.chooseCard(intel));
+    }
+
+    @Test
+    @DisplayName("Should raise holding the three strongest manilhas")
+    void shouldRaiseHoldingTheThreeStrongestManilhas() {
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.FIVE, CardSuit.CLUBS), TrucoCard.of(CardRank.FIVE, CardSuit.HEARTS),
+                        TrucoCard.of(CardRank.FIVE, CardSuit.SPADES)), 0)
+                .opponentScore(0)
+                .build();
+
+        assertTrue(sut.decideIfRaises(intel));
+        assertEquals(1, sut.getRaiseResponse(intel));
+    }
+
+    @Test
+    @DisplayName("Should quit a raise holding weak cards after losing the first round")
+    void shouldQuitARaiseHoldingWeakCardsAfterLosingTheFirstRound() {
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(LOST), List.of(vira, TrucoCard.of(CardRank.SIX, CardSuit.HEARTS),
+                        TrucoCard.of(CardRank.THREE, CardSuit.CLUBS)), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.FOUR, CardSuit.DIAMONDS),
+                        TrucoCard.of(CardRank.FOUR, CardSuit.SPADES)), 0)
+                .opponentScore(0)
+                .build();
+
+        assertFalse(sut.decideIfRaises(intel));
+        assertEquals(-1, sut.getRaiseResponse(intel));
+    }
+
+    @Test
+    @DisplayName("Should accept mao de onze only with a good hand")
+    void shouldAcceptMaoDeOnzeOnlyWithAGoodHand() {
+        final GameIntel good = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.FIVE, CardSuit.CLUBS), TrucoCard.of(CardRank.THREE, CardSuit.HEARTS),
+                        TrucoCard.of(CardRank.TWO, CardSuit.SPADES)), 11)
+                .opponentScore(5)
+                .build();
+        final GameIntel bad = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.FOUR, CardSuit.DIAMONDS), TrucoCard.of(CardRank.SIX, CardSuit.SPADES),
+                        TrucoCard.of(CardRank.SEVEN, CardSuit.HEARTS)), 11)
+                .opponentScore(5)
+                .build();
+
+        assertTrue(sut.getMaoDeOnzeResponse(good));
+        assertFalse(sut.getMaoDeOnzeResponse(bad));
+    }
+
+    @Test
+    @DisplayName("Should take the same decision for the same intel")
+    void shouldTakeTheSameDecisionForTheSameIntel() {
+        final GameIntel intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(vira), vira, 1)
+                .botInfo(List.of(TrucoCard.of(CardRank.QUEEN, CardSuit.HEARTS), TrucoCard.of(CardRank.ACE, CardSuit.SPADES),
+                        TrucoCard.of(CardRank.SIX, CardSuit.DIAMONDS)), 3)
+                .opponentScore(7)
+                .build();
+
+        assertEquals(sut.chooseCard(intel), sut.chooseCard(intel));
+    }
+
+    @Test
+    @DisplayName("Should not create a bot without iterations or time budget")
+    void shouldNotCreateABotWithoutIterationsOrTimeBudget() {
+        assertThrows(IllegalArgumentException.class, () -> new MonteCarloBot(0, Duration.ZERO, ForkJoinPool.commonPool()));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.spi.model;
+
+/**
+ * <p>Dense card encoding and precomputed card value tables shared by the game engine and the bot SPI. Each open
+ * card is represented by an index from {@code 0} to {@code 39}, ordered by rank and then by suit, and the closed
+ * card is represented by {@link #CLOSED}. The relative value of every card for every possible vira is computed
+ * once, so that card comparisons and manilha tests are array lookups.</p>
+ * */
+public final class CardValues {
+
+    /**
+     * <p>Index of the closed card.</p>
+     */
+    public static final int CLOSED = 40;
+
+    /**
+     * <p>Number of card indexes, including the closed card.</p>
+     */
+    public static final int NUMBER_OF_INDEXES = 41;
+
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    private static final int[] RELATIVE_VALUES = new int[NUMBER_OF_INDEXES * NUMBER_OF_INDEXES];
+    private static final boolean[] MANILHAS = new boolean[NUMBER_OF_INDEXES * NUMBER_OF_INDEXES];
+
+    static {
+        for (int vira = 0; vira < NUMBER_OF_INDEXES; vira++)
+            for (int card = 0; card < NUMBER_OF_INDEXES; card++) {
+                final boolean isManilha = rankValueOf(card) == nextRankValue(rankValueOf(vira));
+                MANILHAS[vira * NUMBER_OF_INDEXES + card] = isManilha;
+                RELATIVE_VALUES[vira * NUMBER_OF_INDEXES + card] = computeRelativeValue(vira, card, isManilha);
+            }
+    }
+
+    private CardValues() {
+    }
+
+    private static int computeRelativeValue(int vira, int card, boolean isManilha) {
+        final int cardRank = rankValueOf(card);
+        final int viraRank = rankValueOf(vira);
+        if (isManilha) return card == CLOSED ? NO_VALUE : 9 + suitValueOf(card);
+        final boolean manilhaRankWasLowerThanCardRank = cardRank > viraRank;
+        final boolean manilhaIsThree = viraRank == CardRank.THREE.value();
+        return manilhaRankWasLowerThanCardRank || manilhaIsThree ? cardRank - 1 : cardRank;
+    }
+
+    private static int nextRankValue(int rankValue) {
+        if (rankValue == CardRank.HIDDEN.value()) return rankValue;
+        return rankValue == CardRank.THREE.value() ? CardRank.FOUR.value() : rankValue + 1;
+    }
+
+    private static int rankValueOf(int index) {
+        return index == CLOSED ? CardRank.HIDDEN.value() : index / 4 + 1;
+    }
+
+    private static int suitValueOf(int index) {
+        return index % 4 + 1;
+    }
+
+    /**
+     * <p>Returns the index of the card with the given rank and suit values, as defined by {@link CardRank} and
+     * {@link CardSuit}. A rank or suit value of {@code 0} represents the closed card.</p>
+     * @return an index from {@code 0} to {@code 39} for open cards, or {@link #CLOSED} for the closed card.
+     */
+    public static int indexOf(int rankValue, int suitValue) {
+        if (rankValue == 0 || suitValue == 0) return CLOSED;
+        return (rankValue - 1) * 4 + suitValue - 1;
+    }
+
+    /**
+     * <p>Returns the value of a card considering the vira. Values from {@code 0} to {@code 9} are ordinary cards
+     * and values from {@code 10} to {@code 13} are manilhas, from diamonds to clubs.</p>
+     * @throws IllegalStateException if both the card and the vira are closed, because the closed card would be the
+     * manilha.
+     */
+    public static int relativeValue(int viraIndex, int cardIndex) {
+        final int value = RELATIVE_VALUES[viraIndex * NUMBER_OF_INDEXES + cardIndex];
+        if (value == NO_VALUE) throw new IllegalStateException("Closed card can not be manilha!");
+        return value;
+    }
+
+    /**
+     * <p>Compares the values of two cards considering the vira.</p>
+     * @return a negative number if the card is worth less than the other card, {@code 0} if they have the same value,
+     * or a positive number otherwise.
+     */
+    public static int compare(int viraIndex, int cardIndex, int otherCardIndex) {
+        return relativeValue(viraIndex, cardIndex) - relativeValue(viraIndex, otherCardIndex);
+    }
+
+    /**
+     * <p>Checks if a card is a manilha considering the vira.</p>
+     * @return {@code true} if the card rank is the one next to the vira rank, or {@code false} otherwise.
+     */
+    public static boolean isManilha(int viraIndex, int cardIndex) {
+        return MANILHAS[viraIndex * NUMBER_OF_INDEXES + cardIndex];
+    }
+}
@@ -20,6 +20,8 @@
 
 package com.bueno.spi.model;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -27,12 +29,20 @@ import java.util.Optional;
 /**
  * <p>Represents the game intel from the current player point of view, including its card, the vira card, etc.
  * All information that a player can know about the game is available through getter methods.
- * Objects of this class are immutable and must be created using the {@link StepBuilder} supporting class.
+ * Objects of this class are immutable and must be created using the {@link StepBuilder} supporting class.</p>
+ * <p>Besides the raw information, the intel offers views derived from it, such as the cards sorted by value. Each
+ * view is computed when first requested and cached, so that all the calls deciding a bot move share it.</p>
+ * <p>The intel may also carry the time budget of the decision it is given to. Anytime bots, such as search-based
+ * ones, should check {@link #getRemainingTime()} and return their best move so far before the budget is over,
+ * since the engine may replace late decisions with a fallback decision.</p>
  * */
 public class GameIntel {
 
     public enum RoundResult {WON, DREW, LOST}
 
+    private static final int NOT_COMPUTED = -1;
+    private static final long NO_TIME_BUDGET = 0;
+
     private final List<TrucoCard> cards;
     private final List<TrucoCard> openCards;
     private final TrucoCard vira;
@@ -41,9 +51,19 @@ public class GameIntel {
     private final int score;
     private final int opponentScore;
     private final int handPoints;
+    private final long timeBudgetNanos;
+    private final long startNanos;
+
+    //Derived views, cached when first computed. Concurrent first requests may compute a view more than once, always
+    //to the same immutable value.
+    private List<TrucoCard> cardsSortedByValue;
+    private int manilhaMask = NOT_COMPUTED;
+    private Optional<TrucoCard> cheapestWinningCard;
+    private List<TrucoCard> unseenCards;
 
     private GameIntel(List<TrucoCard> cards, List<TrucoCard> openCards, TrucoCard vira, TrucoCard opponentCard,
-                     List<RoundResult> roundResults, int score, int opponentScore, int handPoints) {
+                     List<RoundResult> roundResults, int score, int opponentScore, int handPoints,
+                     long timeBudgetNanos) {
         this.cards = cards;
         this.openCards = openCards;
         this.vira = vira;
@@ -52,6 +72,8 @@ public class GameIntel {
         this.score = score;
         this.opponentScore = opponentScore;
         this.handPoints = handPoints;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.startNanos = timeBudgetNanos == NO_TIME_BUDGET ? 0 : System.nanoTime();
     }
 
     /**
@@ -126,6 +148,139 @@ public class GameIntel {
         return handPoints;
     }
 
+    /**
+     * <p>Returns the cards owned by the bot sorted by their value considering the vira, from the weakest to the
+     * strongest. Cards of the same value keep the order of {@link #getCards()}.</p>
+     * @return an unmodifiable List of non-null TrucoCards or an empty {@code List} if the user has no cards left
+     */
+    public List<TrucoCard> getCardsSortedByValue() {
+        List<TrucoCard> sorted = cardsSortedByValue;
+        if (sorted == null) {
+            final TrucoCard[] array = cards.toArray(TrucoCard[]::new);
+            for (int i = 1; i < array.length; i++) {
+                final TrucoCard card = array[i];
+                int j = i - 1;
+                for (; j >= 0 && array[j].compareValueTo(card, vira) > 0; j--) array[j + 1] = array[j];
+                array[j + 1] = card;
+            }
+            sorted = cardsSortedByValue = List.of(array);
+        }
+        return sorted;
+    }
+
+    /**
+     * <p>Returns the manilhas owned by the bot as a bit mask. Bits from 0 to 3 represent ouros, espadilha, copas and
+     * zap, respectively. For instance, {@code Integer.bitCount(getManilhaMask())} is the number of manilhas owned by
+     * the bot and {@code (getManilhaMask() & 8) != 0} tests if it owns the zap.</p>
+     * @return an int from {@code 0}, if the bot has no manilha, to {@code 15}, if it has all of them.
+     */
+    public int getManilhaMask() {
+        int mask = manilhaMask;
+        if (mask == NOT_COMPUTED) {
+            mask = 0;
+            for (TrucoCard card : cards) if (card.isManilha(vira)) mask |= 1 << card.relativeValue(vira) - 10;
+            manilhaMask = mask;
+        }
+        return mask;
+    }
+
+    /**
+     * <p>Returns the weakest card owned by the bot that wins against the card returned by {@link #getOpponentCard()}.
+     * </p>
+     * @return an {@code Optional<TrucoCard>} containing the weakest winning card, or {@code Optional.empty()} if there
+     * is no opponent card or no card of the bot wins against it.
+     */
+    public Optional<TrucoCard> getCheapestWinningCard() {
+        Optional<TrucoCard> cheapest = cheapestWinningCard;
+        if (cheapest == null) {
+            TrucoCard winningCard = null;
+            if (opponentCard != null) for (TrucoCard card : cards)
+                if (card.compareValueTo(opponentCard, vira) > 0
+                        && (winningCard == null || card.compareValueTo(winningCard, vira) < 0)) winningCard = card;
+            cheapest = cheapestWinningCard = Optional.ofNullable(winningCard);
+        }
+        return cheapest;
+    }
+
+    /**
+     * <p>Returns the open cards the bot has not seen in the current hand, i.e., the cards that are neither owned by
+     * the bot nor the vira, nor returned by {@link #getOpenCards()} or {@link #getOpponentCard()}. The opponent cards
+     * and the cards that were not dealt are among them.</p>
+     * @return an unmodifiable List of non-null TrucoCards sorted by their indexes, as defined by {@link CardValues}.
+     */
+    public List<TrucoCard> getUnseenCards() {
+        List<TrucoCard> unseen = unseenCards;
+        if (unseen == null) {
+            final boolean[] seen = new boolean[CardValues.NUMBER_OF_INDEXES];
+            seen[vira.index()] = true;
+            for (TrucoCard card : cards) seen[card.index()] = true;
+            for (TrucoCard card : openCards) seen[card.index()] = true;
+            if (opponentCard != null) seen[opponentCard.index()] = true;
+            final List<TrucoCard> list = new ArrayList<>(CardValues.CLOSED);
+            for (CardRank rank : CardRank.values()) {
+                if (rank == CardRank.HIDDEN) continue;
+                for (CardSuit suit : CardSuit.values()) {
+                    if (suit == CardSuit.HIDDEN) continue;
+                    final TrucoCard card = TrucoCard.of(rank, suit);
+                    if (!seen[card.index()]) list.add(card);
+                }
+            }
+            unseen = unseenCards = List.copyOf(list);
+        }
+        return unseen;
+    }
+
+    /**
+     * <p>Returns the time the bot has to make the decision this intel was given to, counted from the creation of
+     * the intel.</p>
+     * @return an {@code Optional} of the time budget or an empty {@code Optional} if the decision is not bounded
+     */
+    public Optional<Duration> getTimeBudget() {
+        return timeBudgetNanos == NO_TIME_BUDGET ? Optional.empty() : Optional.of(Duration.ofNanos(timeBudgetNanos));
+    }
+
+    /**
+     * <p>Returns the time left from the time budget of the decision. It is never negative.</p>
+     * @return an {@code Optional} of the remaining time or an empty {@code Optional} if the decision is not bounded
+     */
+    public Optional<Duration> getRemainingTime() {
+        if (timeBudgetNanos == NO_TIME_BUDGET) return Optional.empty();
+        return Optional.of(Duration.ofNanos(Math.max(0, timeBudgetNanos - (System.nanoTime() - startNanos))));
+    }
+
+    /**
+     * <p>Checks if the time budget of the decision is over. Decisions without a time budget are never out of time.</p>
+     * @return {@code true} if the time budget is over or {@code false} otherwise
+     */
+    public boolean isOutOfTime() {
+        return timeBudgetNanos != NO_TIME_BUDGET && System.nanoTime() - startNanos >= timeBudgetNanos;
+    }
+
+    /**
+     * <p>Returns a copy of this intel carrying the given time budget, counted from now. The game information is
+     * the same, so the copy is equal to this intel and starts with the derived views this intel has already
+     * computed.</p>
+     * @param timeBudget the time budget of the decision, must be positive
+     * @return a new {@link GameIntel} with the given time budget
+     * @throws IllegalArgumentException if {@code timeBudget} is not positive
+     */
+    public GameIntel withTimeBudget(Duration timeBudget) {
+        final GameIntel copy = new GameIntel(cards, openCards, vira, opponentCard, roundResults, score, opponentScore,
+                handPoints, toTimeBudgetNanos(timeBudget));
+        copy.cardsSortedByValue = cardsSortedByValue;
+        copy.manilhaMask = manilhaMask;
+        copy.cheapestWinningCard = cheapestWinningCard;
+        copy.unseenCards = unseenCards;
+        return copy;
+    }
+
+    private static long toTimeBudgetNanos(Duration timeBudget) {
+        Objects.requireNonNull(timeBudget, "The time budget must not be null.");
+        if (timeBudget.isNegative() || timeBudget.isZero())
+            throw new IllegalArgumentException("The time budget must be positive: " + timeBudget);
+        return timeBudget.toNanos();
+    }
+
     public interface GeneralIntel{
         BotIntel gameInfo(List<RoundResult> roundResults, List<TrucoCard> openCards, TrucoCard vira, int handPoints);
     }
@@ -141,7 +296,8 @@ public class GameIntel {
     /**
      * <p>A Builder pattern implementation that supports the creation of GameIntel objects. To start the build, the
      * method {@link #with()} should be invoked. To conclude the build, the {@link #build()} method should be invoked.
-     * The method {@link #opponentCard(TrucoCard card)} is the only optional step of building process.</p>
+     * The methods {@link #opponentCard(TrucoCard card)} and {@link #timeBudget(Duration timeBudget)} are the optional
+     * steps of the building process.</p>
      */
     public static final class StepBuilder implements GeneralIntel, BotIntel, OpponentIntel{
         private List<TrucoCard> cards;
@@ -152,6 +308,7 @@ public class GameIntel {
         private int score;
         private int opponentScore;
         private int handPoints;
+        private long timeBudgetNanos = NO_TIME_BUDGET;
 
         private StepBuilder(){}
 
@@ -193,11 +350,22 @@ public class GameIntel {
             return this;
         }
 
+        /**
+         * <p>Optional step of the building process. It sets the time budget of the decision, counted from the
+         * creation of the intel. If it is not invoked, the decision is not bounded.</p>
+         * @throws IllegalArgumentException if {@code timeBudget} is not positive
+         */
+        public StepBuilder timeBudget(Duration timeBudget){
+            this.timeBudgetNanos = toTimeBudgetNanos(timeBudget);
+            return this;
+        }
+
         /**
          * <p>Concludes the building process of a GameIntel object.</p>
          */
         public GameIntel build(){
-            return new GameIntel(cards, openCards, vira, opponentCard, roundResults, score, opponentScore, handPoints);
+            return new GameIntel(cards, openCards, vira, opponentCard, roundResults, score, opponentScore, handPoints,
+                    timeBudgetNanos);
         }
     }
 
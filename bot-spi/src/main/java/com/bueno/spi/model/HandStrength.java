@@ -0,0 +1,245 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.spi.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>Precomputed strength of every three card hand for every vira rank. The strength of a hand is its probability of
+ * winning against a random hand dealt from the remaining cards, considering that both players know each other's cards
+ * and play their best, and that each of them plays first half of the time. Hands that nobody wins count as half a
+ * win. The table is built the first time it is queried, in a fraction of a second, and every query after that is a
+ * few array lookups.</p>
+ */
+public final class HandStrength {
+
+    private static final int NUMBER_OF_VALUES = 14;
+    private static final int NUMBER_OF_VIRA_RANKS = 10;
+    private static final int PLAYER = 0;
+    private static final int OPPONENT = 1;
+    private static final int DRAW = 2;
+    private static final int NO_CARD = -1;
+
+    private HandStrength() {
+    }
+
+    /**
+     * <p>Returns the strength of a hand, as defined by {@link HandStrength}.</p>
+     *
+     * @param vira  TrucoCard representing the current vira, must be non-null and open
+     * @param cards list with the three cards of the hand, which must be open and distinct from each other and from the
+     *              vira
+     * @return the probability of winning the hand, from {@code 0.0} to {@code 1.0}
+     * @throws NullPointerException     if {@code vira} or {@code cards} is null
+     * @throws IllegalArgumentException if the hand does not have three distinct open cards or the vira is closed
+     */
+    public static double winProbability(TrucoCard vira, List<TrucoCard> cards) {
+        Objects.requireNonNull(cards, "List of cards must not be null.");
+        if (cards.size() != 3) throw new IllegalArgumentException("Hand must have three cards: " + cards);
+        return winProbability(vira, cards.get(0), cards.get(1), cards.get(2));
+    }
+
+    /**
+     * <p>Returns the strength of a hand, as defined by {@link HandStrength}.</p>
+     *
+     * @param vira TrucoCard representing the current vira, must be non-null and open
+     * @return the probability of winning the hand, from {@code 0.0} to {@code 1.0}
+     * @throws NullPointerException     if any card is null
+     * @throws IllegalArgumentException if the cards are not open and distinct from each other and from the vira
+     */
+    public static double winProbability(TrucoCard vira, TrucoCard card, TrucoCard otherCard, TrucoCard anotherCard) {
+        Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
+        Objects.requireNonNull(card, "TrucoCard of the hand must not be null.");
+        Objects.requireNonNull(otherCard, "TrucoCard of the hand must not be null.");
+        Objects.requireNonNull(anotherCard, "TrucoCard of the hand must not be null.");
+        return winProbability(vira.index(), card.index(), otherCard.index(), anotherCard.index());
+    }
+
+    /**
+     * <p>Returns the strength of a hand given by the dense card indexes defined by {@link CardValues}.</p>
+     *
+     * @return the probability of winning the hand, from {@code 0.0} to {@code 1.0}
+     * @throws IllegalArgumentException if the cards are not open and distinct from each other and from the vira
+     */
+    public static double winProbability(int viraIndex, int cardIndex, int otherCardIndex, int anotherCardIndex) {
+        if (!isOpen(viraIndex) || !isOpen(cardIndex) || !isOpen(otherCardIndex) || !isOpen(anotherCardIndex)
+                || cardIndex == otherCardIndex || cardIndex == anotherCardIndex || otherCardIndex == anotherCardIndex
+                || cardIndex == viraIndex || otherCardIndex == viraIndex || anotherCardIndex == viraIndex)
+            throw new IllegalArgumentException("Hand must have three distinct open cards other than the vira.");
+
+        final int value = CardValues.relativeValue(viraIndex, cardIndex);
+        final int otherValue = CardValues.relativeValue(viraIndex, otherCardIndex);
+        final int anotherValue = CardValues.relativeValue(viraIndex, anotherCardIndex);
+        return Table.STRENGTHS[viraRankOf(viraIndex) * NUMBER_OF_VALUES * NUMBER_OF_VALUES * NUMBER_OF_VALUES
+                + keyOf(value, otherValue, anotherValue)];
+    }
+
+    private static boolean isOpen(int index) {
+        return index >= 0 && index < CardValues.CLOSED;
+    }
+
+    private static int viraRankOf(int viraIndex) {
+        return viraIndex / 4;
+    }
+
+    private static int keyOf(int value, int otherValue, int anotherValue) {
+        return (value * NUMBER_OF_VALUES + otherValue) * NUMBER_OF_VALUES + anotherValue;
+    }
+
+    //Holds the table, so that it is built when first queried. Hands are described by the values of their cards, so
+    //the outcome of each pair of hands is computed once and weighted by the number of deals of each vira rank.
+    private static final class Table {
+
+        private static final int[][] HANDS = sortedHands();
+        private static final float[] STRENGTHS = build();
+
+        private static int[][] sortedHands() {
+            final int[][] hands = new int[455][];
+            int hand = 0;
+            for (int low = 1; low < NUMBER_OF_VALUES; low++)
+                for (int middle = low; middle < NUMBER_OF_VALUES; middle++)
+                    for (int high = middle; high < NUMBER_OF_VALUES; high++) hands[hand++] = new int[]{low, middle, high};
+            return hands;
+        }
+
+        private static float[] build() {
+            final int numberOfHands = HANDS.length;
+            final byte[] outcomes = new byte[numberOfHands * numberOfHands];
+            final int[] cards = new int[6];
+            for (int hand = 0; hand < numberOfHands; hand++)
+                for (int opponentHand = 0; opponentHand < numberOfHands; opponentHand++) {
+                    System.arraycopy(HANDS[hand], 0, cards, 0, 3);
+                    System.arraycopy(HANDS[opponentHand], 0, cards, 3, 3);
+                    final int outcome = play(cards, 0, PLAYER, NO_CARD, 0, DRAW) + play(cards, 0, OPPONENT, NO_CARD, 0, DRAW);
+                    outcomes[hand * numberOfHands + opponentHand] = (byte) (outcome + 2);
+                }
+
+            final int tableSize = NUMBER_OF_VALUES * NUMBER_OF_VALUES * NUMBER_OF_VALUES;
+            final float[] strengths = new float[NUMBER_OF_VIRA_RANKS * tableSize];
+            Arrays.fill(strengths, Float.NaN);
+            for (int viraRank = 0; viraRank < NUMBER_OF_VIRA_RANKS; viraRank++) {
+                final int[] copies = copiesOfEachValue(viraRank * 4);
+                for (int hand = 0; hand < numberOfHands; hand++) {
+                    final int[] cardValues = HANDS[hand];
+                    if (!take(copies, cardValues)) continue;
+                    long weightedOutcomes = 0;
+                    long deals = 0;
+                    for (int opponentHand = 0; opponentHand < numberOfHands; opponentHand++) {
+                        final long weight = numberOfDeals(copies, HANDS[opponentHand]);
+                        weightedOutcomes += weight * outcomes[hand * numberOfHands + opponentHand];
+                        deals += weight;
+                    }
+                    restore(copies, cardValues);
+                    final float strength = (float) ((double) weightedOutcomes / (4 * deals));
+                    final int offset = viraRank * tableSize;
+                    final int low = cardValues[0], middle = cardValues[1], high = cardValues[2];
+                    strengths[offset + keyOf(low, middle, high)] = strength;
+                    strengths[offset + keyOf(low, high, middle)] = strength;
+                    strengths[offset + keyOf(middle, low, high)] = strength;
+                    strengths[offset + keyOf(middle, high, low)] = strength;
+                    strengths[offset + keyOf(high, low, middle)] = strength;
+                    strengths[offset + keyOf(high, middle, low)] = strength;
+                }
+            }
+            return strengths;
+        }
+
+        private static int[] copiesOfEachValue(int viraIndex) {
+            final int[] copies = new int[NUMBER_OF_VALUES];
+            for (int card = 0; card < CardValues.CLOSED; card++)
+                if (card != viraIndex) copies[CardValues.relativeValue(viraIndex, card)]++;
+            return copies;
+        }
+
+        //Removes the card values from the remaining copies, unless there are not enough copies to deal them.
+        private static boolean take(int[] copies, int[] cardValues) {
+            for (int card = 0; card < 3; card++) {
+                if (copies[cardValues[card]] == 0) {
+                    for (int taken = 0; taken < card; taken++) copies[cardValues[taken]]++;
+                    return false;
+                }
+                copies[cardValues[card]]--;
+            }
+            return true;
+        }
+
+        private static void restore(int[] copies, int[] cardValues) {
+            for (int card = 0; card < 3; card++) copies[cardValues[card]]++;
+        }
+
+        //Counts the ways of dealing the sorted card values from the remaining copies.
+        private static long numberOfDeals(int[] copies, int[] cardValues) {
+            final int low = cardValues[0], middle = cardValues[1], high = cardValues[2];
+            if (low == high) return combinations(copies[low], 3);
+            if (low == middle) return combinations(copies[low], 2) * copies[high];
+            if (middle == high) return copies[low] * combinations(copies[high], 2);
+            return (long) copies[low] * copies[middle] * copies[high];
+        }
+
+        private static long combinations(int n, int k) {
+            return k == 2 ? n * (n - 1) / 2 : n * (n - 1) * (n - 2) / 6;
+        }
+
+        //Returns 1 if the player wins the hand, -1 if the opponent wins, or 0 if nobody wins. The first three cards
+        //belong to the player and the last three to the opponent, and the used bits mark the cards already played.
+        //After the first round, a card may be discarded, i.e., played closed with value 0.
+        private static int play(int[] cards, int used, int leader, int tableCard, int roundsPlayed, int firstRound) {
+            final int turn = tableCard == NO_CARD ? leader : 1 - leader;
+            final int target = turn == PLAYER ? 1 : -1;
+            int best = -target;
+            for (int slot = turn * 3; slot < turn * 3 + 3; slot++) {
+                if ((used & 1 << slot) != 0) continue;
+                final int nowUsed = used | 1 << slot;
+                best = better(turn, best, afterPlaying(cards, nowUsed, leader, tableCard, roundsPlayed, firstRound, cards[slot]));
+                if (roundsPlayed > 0 && best != target)
+                    best = better(turn, best, afterPlaying(cards, nowUsed, leader, tableCard, roundsPlayed, firstRound, 0));
+                if (best == target) return best;
+            }
+            return best;
+        }
+
+        private static int afterPlaying(int[] cards, int used, int leader, int tableCard, int roundsPlayed,
+                                        int firstRound, int card) {
+            if (tableCard == NO_CARD) return play(cards, used, leader, card, roundsPlayed, firstRound);
+
+            final int roundResult = tableCard > card ? leader : tableCard < card ? 1 - leader : DRAW;
+            if (roundsPlayed == 1) {
+                if (firstRound == DRAW && roundResult != DRAW) return outcomeOf(roundResult);
+                if (firstRound != DRAW && (roundResult == DRAW || roundResult == firstRound)) return outcomeOf(firstRound);
+            }
+            if (roundsPlayed == 2) return outcomeOf(roundResult == DRAW && firstRound != DRAW ? firstRound : roundResult);
+
+            final int nextLeader = roundResult == DRAW ? leader : roundResult;
+            return play(cards, used, nextLeader, NO_CARD, roundsPlayed + 1, roundsPlayed == 0 ? roundResult : firstRound);
+        }
+
+        private static int outcomeOf(int winner) {
+            return winner == DRAW ? 0 : winner == PLAYER ? 1 : -1;
+        }
+
+        private static int better(int turn, int value, int other) {
+            return turn == PLAYER ? Math.max(value, other) : Math.min(value, other);
+        }
+    }
+}
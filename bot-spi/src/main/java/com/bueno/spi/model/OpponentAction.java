@@ -0,0 +1,131 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.spi.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * <p>Represents an action performed by the opponent of a bot, as reported to
+ * {@link com.bueno.spi.service.StatefulBotServiceProvider#onOpponentAction(OpponentAction)}. Objects of this class
+ * are final and must be created using the static constructors.</p>
+ * */
+public final class OpponentAction {
+
+    /**
+     * <p>Kinds of actions the opponent may perform. Accepting or quitting a "mão de onze" is reported as
+     * {@link #ACCEPT} or {@link #QUIT} as well.</p>
+     */
+    public enum Type {PLAY, DISCARD, RAISE, ACCEPT, QUIT}
+
+    private final Type type;
+    private final TrucoCard card;
+    private final int handPoints;
+
+    private OpponentAction(Type type, TrucoCard card, int handPoints) {
+        this.type = type;
+        this.card = card;
+        this.handPoints = handPoints;
+    }
+
+    /**
+     * <p>Represents an opponent card played open in the current round.</p>
+     * @param card the card played by the opponent, must be non-null
+     * @param handPoints the hand points when the card was played
+     * @throws NullPointerException if {@code card} is null
+     * */
+    public static OpponentAction played(TrucoCard card, int handPoints) {
+        Objects.requireNonNull(card, "The played card must not be null.");
+        return new OpponentAction(Type.PLAY, card, handPoints);
+    }
+
+    /**
+     * <p>Represents an opponent card discarded in the current round. The discarded card is not revealed.</p>
+     * @param handPoints the hand points when the card was discarded
+     * */
+    public static OpponentAction discarded(int handPoints) {
+        return new OpponentAction(Type.DISCARD, null, handPoints);
+    }
+
+    /**
+     * <p>Represents an opponent request to raise the hand points.</p>
+     * @param proposedPoints the hand points proposed by the opponent
+     * */
+    public static OpponentAction raised(int proposedPoints) {
+        return new OpponentAction(Type.RAISE, null, proposedPoints);
+    }
+
+    /**
+     * <p>Represents the opponent accepting a raise request or accepting to play a "mão de onze".</p>
+     * @param handPoints the hand points after the acceptance
+     * */
+    public static OpponentAction accepted(int handPoints) {
+        return new OpponentAction(Type.ACCEPT, null, handPoints);
+    }
+
+    /**
+     * <p>Represents the opponent quitting the hand.</p>
+     * @param handPoints the hand points given to the bot
+     * */
+    public static OpponentAction quit(int handPoints) {
+        return new OpponentAction(Type.QUIT, null, handPoints);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * <p>Returns the card played by the opponent. It is only present if the action type is {@link Type#PLAY}.</p>
+     * @return an {@code Optional} of the played card
+     * */
+    public Optional<TrucoCard> getCard() {
+        return Optional.ofNullable(card);
+    }
+
+    /**
+     * <p>Returns the hand points the action refers to: the points at stake for played or discarded cards, the
+     * proposed points for raises, the accepted points for acceptances, and the points given to the bot for quits.</p>
+     * @return the hand points of the action
+     * */
+    public int getHandPoints() {
+        return handPoints;
+    }
+
+    @Override
+    public boolean equals(Object out) {
+        if (this == out) return true;
+        if (out == null || getClass() != out.getClass()) return false;
+        OpponentAction that = (OpponentAction) out;
+        return handPoints == that.handPoints && type == that.type && Objects.equals(card, that.card);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, card, handPoints);
+    }
+
+    @Override
+    public String toString() {
+        return card == null ? type + "(" + handPoints + ")" : type + "(" + card + ", " + handPoints + ")";
+    }
+}
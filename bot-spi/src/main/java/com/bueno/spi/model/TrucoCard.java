@@ -31,13 +31,24 @@ import java.util.Objects;
  */
 public final class TrucoCard {
 
-    private static final TrucoCard[] cache = new TrucoCard[41];
+    private static final TrucoCard[] cache = new TrucoCard[CardValues.NUMBER_OF_INDEXES];
     private final CardSuit suit;
     private final CardRank rank;
+    private final int index;
+
+    static {
+        for (CardRank rank : CardRank.values())
+            for (CardSuit suit : CardSuit.values())
+                if ((rank == CardRank.HIDDEN) == (suit == CardSuit.HIDDEN)) {
+                    final TrucoCard card = new TrucoCard(rank, suit);
+                    cache[card.index] = card;
+                }
+    }
 
     private TrucoCard(CardRank rank, CardSuit suit) {
         this.rank = rank;
         this.suit = suit;
+        this.index = CardValues.indexOf(rank.value(), suit.value());
     }
 
     /**
@@ -73,13 +84,22 @@ public final class TrucoCard {
         return fromCache(CardRank.HIDDEN, CardSuit.HIDDEN);
     }
 
-    private static TrucoCard fromCache(CardRank rank, CardSuit suit) {
-        int rankValue = rank.value();
-        int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+    /**
+     * <p>Returns the cached Truco card of the given dense index, as defined by {@link CardValues}. It is the fastest
+     * way to convert cards represented by the same indexes, such as the cards of the game engine.</p>
+     *
+     * @param index an index from 0 to 39 for open cards, or {@link CardValues#CLOSED} for the closed card
+     * @return TrucoCard of the given {@code index}
+     * @throws IllegalArgumentException if {@code index} is not a valid card index
+     */
+    public static TrucoCard ofIndex(int index) {
+        if (index < 0 || index >= CardValues.NUMBER_OF_INDEXES)
+            throw new IllegalArgumentException("Invalid card index: " + index);
+        return cache[index];
+    }
 
-        if (cache[cachePosition] == null) cache[cachePosition] = new TrucoCard(rank, suit);
-        return cache[cachePosition];
+    private static TrucoCard fromCache(CardRank rank, CardSuit suit) {
+        return cache[CardValues.indexOf(rank.value(), suit.value())];
     }
 
 
@@ -117,7 +137,7 @@ public final class TrucoCard {
     public int compareValueTo(TrucoCard otherCard, TrucoCard vira) {
         Objects.requireNonNull(otherCard, "TrucoCard to be compared must not be null.");
         Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
-        return this.relativeValue(vira) - otherCard.relativeValue(vira);
+        return CardValues.compare(vira.index, index, otherCard.index);
     }
 
     /**
@@ -133,23 +153,7 @@ public final class TrucoCard {
      */
     public int relativeValue(TrucoCard vira) {
         Objects.requireNonNull(vira, "Vira card must not be null.");
-
-        if (isManilha(vira))
-            return switch (suit) {
-                case DIAMONDS -> 10;
-                case SPADES -> 11;
-                case HEARTS -> 12;
-                case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
-            };
-        if (manilhaPositionInfluencesInCardValue(vira)) return rank.value() - 1;
-        return rank.value();
-    }
-
-    private boolean manilhaPositionInfluencesInCardValue(TrucoCard vira) {
-        final boolean manilhaRankWasLowerThanCardRank = rank.value() > vira.rank.value();
-        final boolean manilhaIsThree = vira.rank == CardRank.THREE;
-        return manilhaRankWasLowerThanCardRank || manilhaIsThree;
+        return CardValues.relativeValue(vira.index, index);
     }
 
     /**
@@ -166,8 +170,7 @@ public final class TrucoCard {
      */
     public boolean isManilha(TrucoCard vira) {
         Objects.requireNonNull(vira, "TrucoCard representing the vira must not be null.");
-        return getRank() == vira.getRank().next();
-
+        return CardValues.isManilha(vira.index, index);
     }
 
     /**
@@ -242,6 +245,15 @@ public final class TrucoCard {
         return suit;
     }
 
+    /**
+     * <p>Returns the dense index of the card, as defined by {@link CardValues}.</p>
+     *
+     * @return an index from 0 to 39 for open cards, or {@link CardValues#CLOSED} for the closed card
+     */
+    public int index() {
+        return index;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -0,0 +1,40 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.spi.service;
+
+/**
+ * <p>Declares how instances of a {@link BotServiceProvider} are handed out by the {@link BotServiceRegistry}.</p>
+ * */
+public enum BotLifecycle {
+
+    /**
+     * <p>A single instance is shared by every game. Only suitable for bots that keep no state between decisions,
+     * since the same instance may be asked to decide in several games at the same time.</p>
+     */
+    SINGLETON,
+
+    /**
+     * <p>A new instance is created every time the bot is loaded from the registry, so instances are never shared by
+     * different games. It is the safe choice for bots that store information in their fields. Games load each bot
+     * once and keep the instance between decisions, although a game against users left idle for long may load its
+     * bot again.</p>
+     */
+    PER_GAME
+}
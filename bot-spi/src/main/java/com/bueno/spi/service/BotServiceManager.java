@@ -21,26 +21,23 @@
 package com.bueno.spi.service;
 
 import java.util.List;
-import java.util.NoSuchElementException;
-import java.util.Optional;
-import java.util.ServiceLoader;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class BotServiceManager {
 
     public static Stream<BotServiceProvider> providers() {
-        return ServiceLoader.load(BotServiceProvider.class).stream().map(ServiceLoader.Provider::get);
+        return BotServiceRegistry.names().stream().map(BotServiceRegistry::load);
     }
 
     public static BotServiceProvider load(String botServiceName){
-        final Predicate<BotServiceProvider> hasName = botImpl -> botImpl.getName().equals(botServiceName);
-        final Optional<BotServiceProvider> possibleBot = providers().filter(hasName).findAny();
-        return possibleBot.orElseThrow(() -> new NoSuchElementException("Service implementation not available: " + botServiceName));
+        return BotServiceRegistry.load(botServiceName);
     }
 
     public static List<String> providersNames(){
-        return providers().map(BotServiceProvider::getName).collect(Collectors.toList());
+        return BotServiceRegistry.names();
+    }
+
+    public static boolean isAvailable(String botServiceName){
+        return BotServiceRegistry.contains(botServiceName);
     }
 }
@@ -71,4 +71,14 @@ public interface BotServiceProvider{
     default String getName(){
         return getClass().getSimpleName();
     }
+
+    /**
+     * <p>Returns how the bot instances must be handed out. By default, a new instance is created for each game,
+     * which is safe for bots keeping information in their fields. Stateless bots may return
+     * {@link BotLifecycle#SINGLETON} to share a single instance among all games.</p>
+     * @return The bot lifecycle.
+     */
+    default BotLifecycle getLifecycle(){
+        return BotLifecycle.PER_GAME;
+    }
 }
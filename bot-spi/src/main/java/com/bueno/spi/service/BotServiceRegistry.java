@@ -0,0 +1,111 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.spi.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.ServiceLoader;
+
+/**
+ * <p>Discovers the available {@link BotServiceProvider} implementations once and indexes them by name. After the
+ * discovery, finding a bot costs a single hash lookup. Instances are handed out according to the
+ * {@link BotLifecycle} declared by each bot.</p>
+ * */
+public final class BotServiceRegistry {
+
+    private BotServiceRegistry() {
+    }
+
+    /**
+     * <p>Returns an instance of the bot with the given name. Bots declaring {@link BotLifecycle#SINGLETON} always
+     * return the same instance, while bots declaring {@link BotLifecycle#PER_GAME} and every
+     * {@link StatefulBotServiceProvider} return a new one at each call.</p>
+     * @throws NoSuchElementException if there is no bot with the given name.
+     */
+    public static BotServiceProvider load(String botServiceName) {
+        return Registry.INDEX.load(botServiceName);
+    }
+
+    /**
+     * <p>Checks if there is a bot with the given name without creating any bot instance.</p>
+     * @return {@code true} if the bot is available or {@code false} otherwise.
+     */
+    public static boolean contains(String botServiceName) {
+        return Registry.INDEX.contains(botServiceName);
+    }
+
+    /**
+     * <p>Returns the names of the available bots in the order they were discovered.</p>
+     * @return an unmodifiable list of bot names.
+     */
+    public static List<String> names() {
+        return Registry.INDEX.names();
+    }
+
+    private record Registration(ServiceLoader.Provider<BotServiceProvider> provider, BotServiceProvider shared) {
+        BotServiceProvider instance() {
+            return shared != null ? shared : provider.get();
+        }
+    }
+
+    //Indexes the given providers by bot name, keeping the first provider of each name. It is separated from the
+    //discovery so that the lifecycle handling can be checked with providers other than the ones on the module path.
+    static final class Index {
+        private final Map<String, Registration> byName = new HashMap<>();
+        private final List<String> names;
+
+        Index(List<ServiceLoader.Provider<BotServiceProvider>> providers) {
+            final List<String> names = new ArrayList<>();
+            for (ServiceLoader.Provider<BotServiceProvider> provider : providers) {
+                final BotServiceProvider prototype = provider.get();
+                final String name = prototype.getName();
+                if (byName.containsKey(name)) continue;
+                final boolean isShared = prototype.getLifecycle() == BotLifecycle.SINGLETON
+                        && !(prototype instanceof StatefulBotServiceProvider);
+                byName.put(name, new Registration(provider, isShared ? prototype : null));
+                names.add(name);
+            }
+            this.names = Collections.unmodifiableList(names);
+        }
+
+        BotServiceProvider load(String botServiceName) {
+            final Registration registration = botServiceName == null ? null : byName.get(botServiceName);
+            if (registration == null)
+                throw new NoSuchElementException("Service implementation not available: " + botServiceName);
+            return registration.instance();
+        }
+
+        boolean contains(String botServiceName) {
+            return botServiceName != null && byName.containsKey(botServiceName);
+        }
+
+        List<String> names() {
+            return names;
+        }
+    }
+
+    private static final class Registry {
+        private static final Index INDEX = new Index(ServiceLoader.load(BotServiceProvider.class).stream().toList());
+    }
+}
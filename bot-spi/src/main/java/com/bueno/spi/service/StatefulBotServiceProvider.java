@@ -0,0 +1,83 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.OpponentAction;
+import com.bueno.spi.model.TrucoCard;
+
+import java.util.List;
+
+/**
+ * <p>Optional extension of {@link BotServiceProvider} for bots that keep state along a game, such as card counting
+ * or opponent models. The registry never shares a stateful bot: it hands out a new instance at each load regardless
+ * of {@link #getLifecycle()}.</p>
+ *
+ * <p>Games between bots keep one instance per game: the engine that plays them loads the bot once, keeps the
+ * instance until the game is over and reports what changed between decisions through the methods below. Games
+ * against users also keep the instance between decisions, but may load a new one if the game is left idle for long,
+ * and deliver none of these callbacks.</p>
+ *
+ * <p>Callbacks are delivered in the order the game happens: {@link #onGameStart(String)} once, then for each hand
+ * {@link #onHandStart(TrucoCard, List)}, the opponent actions and round results of the hand, and
+ * {@link #onHandEnd(int, int)}. Every callback has an empty default implementation, so bots only override what they
+ * need. Decisions still receive a complete {@link GameIntel}, which remains the source of truth.</p>
+ * */
+public interface StatefulBotServiceProvider extends BotServiceProvider {
+
+    /**
+     * <p>Called once, before the first hand of the game.</p>
+     * @param opponentName the name of the opponent
+     */
+    default void onGameStart(String opponentName) {
+    }
+
+    /**
+     * <p>Called when a new hand is dealt, before any decision of the hand.</p>
+     * @param vira the vira of the hand
+     * @param cards an unmodifiable list with the cards dealt to the bot
+     */
+    default void onHandStart(TrucoCard vira, List<TrucoCard> cards) {
+    }
+
+    /**
+     * <p>Called after each action of the opponent, including cards played, raise requests and responses.</p>
+     * @param action the action performed by the opponent
+     */
+    default void onOpponentAction(OpponentAction action) {
+    }
+
+    /**
+     * <p>Called when a round is finished, after the action that finished it has been reported.</p>
+     * @param result the result of the round from the bot point of view
+     */
+    default void onRoundResult(GameIntel.RoundResult result) {
+    }
+
+    /**
+     * <p>Called when the hand is over and the scores have been updated, including the last hand of the game.</p>
+     * @param score the bot score after the hand
+     * @param opponentScore the opponent score after the hand
+     */
+    default void onHandEnd(int score, int opponentScore) {
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardValuesTest {
+
+    @Test
+    @DisplayName("Should assign distinct dense indexes to every card")
+    void shouldAssignDistinctDenseIndexesToEveryCard() {
+        final Set<Integer> indexes = new HashSet<>();
+        for (CardRank rank : CardRank.values()) {
+            if (rank == CardRank.HIDDEN) continue;
+            for (CardSuit suit : CardSuit.values()) {
+                if (suit == CardSuit.HIDDEN) continue;
+                indexes.add(TrucoCard.of(rank, suit).index());
+            }
+        }
+        assertAll(
+                () -> assertEquals(40, indexes.size()),
+                () -> assertTrue(indexes.stream().allMatch(index -> index >= 0 && index < CardValues.CLOSED)),
+                () -> assertEquals(CardValues.CLOSED, TrucoCard.closed().index())
+        );
+    }
+
+    @Test
+    @DisplayName("Should get manilha values from table")
+    void shouldGetManilhaValuesFromTable() {
+        final int vira = TrucoCard.of(CardRank.FOUR, CardSuit.HEARTS).index();
+        assertAll(
+                () -> assertEquals(10, CardValues.relativeValue(vira, TrucoCard.of(CardRank.FIVE, CardSuit.DIAMONDS).index())),
+                () -> assertEquals(13, CardValues.relativeValue(vira, TrucoCard.of(CardRank.FIVE, CardSuit.CLUBS).index())),
+                () -> assertTrue(CardValues.isManilha(vira, TrucoCard.of(CardRank.FIVE, CardSuit.SPADES).index()))
+        );
+    }
+
+    @Test
+    @DisplayName("Should skip manilha rank when vira is three")
+    void shouldSkipManilhaRankWhenViraIsThree() {
+        final int vira = TrucoCard.of(CardRank.THREE, CardSuit.HEARTS).index();
+        final int five = TrucoCard.of(CardRank.FIVE, CardSuit.HEARTS).index();
+        assertAll(
+                () -> assertEquals(1, CardValues.relativeValue(vira, five)),
+                () -> assertTrue(CardValues.isManilha(vira, TrucoCard.of(CardRank.FOUR, CardSuit.CLUBS).index()))
+        );
+    }
+
+    @Test
+    @DisplayName("Should agree with truco card comparison")
+    void shouldAgreeWithTrucoCardComparison() {
+        final TrucoCard vira = TrucoCard.of(CardRank.SEVEN, CardSuit.SPADES);
+        final TrucoCard card = TrucoCard.of(CardRank.ACE, CardSuit.DIAMONDS);
+        final TrucoCard otherCard = TrucoCard.of(CardRank.KING, CardSuit.CLUBS);
+        assertEquals(card.compareValueTo(otherCard, vira), CardValues.compare(vira.index(), card.index(), otherCard.index()));
+    }
+
+    @Test
+    @DisplayName("Should throw if closed card is manilha")
+    void shouldThrowIfClosedCardIsManilha() {
+        assertThrows(IllegalStateException.class, () -> CardValues.relativeValue(CardValues.CLOSED, CardValues.CLOSED));
+    }
+
+    @ParameterizedTest(name = "[{index}]: vira {0}")
+    @MethodSource("allViras")
+    @DisplayName("Should agree with the original card value formulas for every card")
+    void shouldAgreeWithTheOriginalCardValueFormulasForEveryCard(TrucoCard vira) {
+        final List<Executable> assertions = new ArrayList<>();
+        for (int index = 0; index < CardValues.NUMBER_OF_INDEXES; index++) {
+            final TrucoCard card = TrucoCard.ofIndex(index);
+            final int cardIndex = index;
+            assertions.add(() -> assertEquals(originalIsManilha(vira, card), CardValues.isManilha(vira.index(), cardIndex),
+                    () -> "isManilha of " + card));
+            if (originalIsManilha(vira, card) && card.getSuit() == CardSuit.HIDDEN)
+                assertions.add(() -> assertThrows(IllegalStateException.class,
+                        () -> CardValues.relativeValue(vira.index(), cardIndex)));
+            else assertions.add(() -> assertEquals(originalRelativeValue(vira, card),
+                    CardValues.relativeValue(vira.index(), cardIndex), () -> "relativeValue of " + card));
+        }
+        assertAll(assertions);
+    }
+
+    private static Stream<TrucoCard> allViras() {
+        return IntStream.range(0, CardValues.NUMBER_OF_INDEXES).mapToObj(TrucoCard::ofIndex);
+    }
+
+    //Copy of the formulas TrucoCard used before the values were tabulated.
+    private static int originalRelativeValue(TrucoCard vira, TrucoCard card) {
+        if (originalIsManilha(vira, card))
+            return switch (card.getSuit()) {
+                case DIAMONDS -> 10;
+                case SPADES -> 11;
+                case HEARTS -> 12;
+                case CLUBS -> 13;
+                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
+            };
+        final boolean manilhaRankWasLowerThanCardRank = card.getRank().value() > vira.getRank().value();
+        final boolean manilhaIsThree = vira.getRank() == CardRank.THREE;
+        if (manilhaRankWasLowerThanCardRank || manilhaIsThree) return card.getRank().value() - 1;
+        return card.getRank().value();
+    }
+
+    private static boolean originalIsManilha(TrucoCard vira, TrucoCard card) {
+        final CardRank next = switch (vira.getRank().value()) {
+            case 0 -> CardRank.HIDDEN;
+            case 10 -> CardRank.FOUR;
+            default -> CardRank.values()[vira.getRank().value() + 1];
+        };
+        return card.getRank() == next;
+    }
+}
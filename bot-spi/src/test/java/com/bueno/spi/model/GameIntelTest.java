@@ -25,12 +25,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static com.bueno.spi.model.CardRank.*;
-import static com.bueno.spi.model.CardSuit.HEARTS;
-import static com.bueno.spi.model.CardSuit.SPADES;
+import static com.bueno.spi.model.CardSuit.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 class GameIntelTest {
@@ -98,4 +98,106 @@ class GameIntelTest {
         assertEquals(stepBuilder.build().hashCode(), stepBuilder.build().hashCode());
 
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should sort cards by value keeping the order of cards with same value")
+    void shouldSortCardsByValueKeepingTheOrderOfCardsWithSameValue() {
+        final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+        final GameIntel intel = StepBuilder.with()
+                .gameInfo(results, openCards, vira, 1)
+                .botInfo(List.of(TrucoCard.of(FIVE, DIAMONDS), TrucoCard.of(KING, CLUBS), TrucoCard.of(KING, SPADES)), 9)
+                .opponentScore(3)
+                .build();
+        assertAll(
+                () -> assertIterableEquals(List.of(TrucoCard.of(KING, CLUBS), TrucoCard.of(KING, SPADES),
+                        TrucoCard.of(FIVE, DIAMONDS)), intel.getCardsSortedByValue()),
+                () -> assertSame(intel.getCardsSortedByValue(), intel.getCardsSortedByValue())
+        );
+    }
+
+    @Test
+    @DisplayName("Should have one bit for each manilha owned")
+    void shouldHaveOneBitForEachManilhaOwned() {
+        final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+        final GameIntel intel = StepBuilder.with()
+                .gameInfo(results, openCards, vira, 1)
+                .botInfo(List.of(TrucoCard.of(FIVE, DIAMONDS), TrucoCard.of(KING, CLUBS), TrucoCard.of(FIVE, CLUBS)), 9)
+                .opponentScore(3)
+                .build();
+        assertEquals(0b1001, intel.getManilhaMask());
+    }
+
+    @Test
+    @DisplayName("Should get the cheapest card that wins against the opponent card")
+    void shouldGetTheCheapestCardThatWinsAgainstTheOpponentCard() {
+        final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+        final StepBuilder builder = StepBuilder.with()
+                .gameInfo(results, openCards, vira, 1)
+                .botInfo(List.of(TrucoCard.of(THREE, CLUBS), TrucoCard.of(JACK, SPADES), TrucoCard.of(ACE, HEARTS)), 9)
+                .opponentScore(3);
+        assertAll(
+                () -> assertEquals(Optional.of(TrucoCard.of(ACE, HEARTS)),
+                        builder.opponentCard(TrucoCard.of(KING, SPADES)).build().getCheapestWinningCard()),
+                () -> assertEquals(Optional.empty(),
+                        builder.opponentCard(TrucoCard.of(THREE, HEARTS)).build().getCheapestWinningCard()),
+                () -> assertEquals(Optional.empty(), builder.opponentCard(null).build().getCheapestWinningCard())
+        );
+    }
+
+    @Test
+    @DisplayName("Should get the cards not seen by the bot")
+    void shouldGetTheCardsNotSeenByTheBot() {
+        final TrucoCard opponentCard = TrucoCard.of(KING, SPADES);
+        final List<TrucoCard> unseenCards = stepBuilder.opponentCard(opponentCard).build().getUnseenCards();
+        assertAll(
+                () -> assertEquals(36, unseenCards.size()),
+                () -> assertFalse(unseenCards.contains(vira)),
+                () -> assertFalse(unseenCards.contains(opponentCard)),
+                () -> assertFalse(unseenCards.containsAll(openCards)),
+                () -> assertFalse(unseenCards.containsAll(botCards)),
+                () -> assertTrue(unseenCards.contains(TrucoCard.of(FOUR, HEARTS)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should not bound decisions without time budget")
+    void shouldNotBoundDecisionsWithoutTimeBudget() {
+        final GameIntel intel = stepBuilder.build();
+        assertAll(
+                () -> assertEquals(Optional.empty(), intel.getTimeBudget()),
+                () -> assertEquals(Optional.empty(), intel.getRemainingTime()),
+                () -> assertFalse(intel.isOutOfTime())
+        );
+    }
+
+    @Test
+    @DisplayName("Should carry the time budget without changing the game information")
+    void shouldCarryTheTimeBudgetWithoutChangingTheGameInformation() {
+        final GameIntel intel = stepBuilder.build();
+        final GameIntel timedIntel = intel.withTimeBudget(Duration.ofMinutes(1));
+        assertAll(
+                () -> assertEquals(intel, timedIntel),
+                () -> assertEquals(Optional.of(Duration.ofMinutes(1)), timedIntel.getTimeBudget()),
+                () -> assertTrue(timedIntel.getRemainingTime().orElseThrow().compareTo(Duration.ofMinutes(1)) <= 0),
+                () -> assertFalse(timedIntel.isOutOfTime()),
+                () -> assertEquals(Optional.of(Duration.ofSeconds(5)),
+                        stepBuilder.timeBudget(Duration.ofSeconds(5)).build().getTimeBudget()),
+                () -> assertThrows(IllegalArgumentException.class, () -> intel.withTimeBudget(Duration.ZERO))
+        );
+    }
+
+    @Test
+    @DisplayName("Should keep the derived views already computed when carrying the time budget")
+    void shouldKeepTheDerivedViewsAlreadyComputedWhenCarryingTheTimeBudget() {
+        final GameIntel intel = stepBuilder.build();
+        final List<TrucoCard> sortedCards = intel.getCardsSortedByValue();
+        final List<TrucoCard> unseenCards = intel.getUnseenCards();
+        final GameIntel timedIntel = intel.withTimeBudget(Duration.ofMinutes(1));
+        assertAll(
+                () -> assertSame(sortedCards, timedIntel.getCardsSortedByValue()),
+                () -> assertSame(unseenCards, timedIntel.getUnseenCards()),
+                () -> assertEquals(intel.getManilhaMask(), timedIntel.getManilhaMask()),
+                () -> assertEquals(intel.getCheapestWinningCard(), timedIntel.getCheapestWinningCard())
+        );
+    }
+}
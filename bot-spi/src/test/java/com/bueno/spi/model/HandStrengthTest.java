@@ -0,0 +1,110 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandStrengthTest {
+
+    private final TrucoCard vira = TrucoCard.of(FOUR, HEARTS);
+
+    @Test
+    @DisplayName("Should almost always win with the three strongest manilhas")
+    void shouldAlmostAlwaysWinWithTheThreeStrongestManilhas() {
+        final double sut = HandStrength.winProbability(vira, TrucoCard.of(FIVE, CLUBS), TrucoCard.of(FIVE, HEARTS),
+                TrucoCard.of(FIVE, SPADES));
+        assertTrue(sut > 0.99 && sut <= 1.0);
+    }
+
+    @Test
+    @DisplayName("Should rarely win with the three weakest cards")
+    void shouldRarelyWinWithTheThreeWeakestCards() {
+        final double sut = HandStrength.winProbability(vira, TrucoCard.of(FOUR, CLUBS), TrucoCard.of(FOUR, SPADES),
+                TrucoCard.of(FOUR, DIAMONDS));
+        assertTrue(sut >= 0.0 && sut < 0.05);
+    }
+
+    @Test
+    @DisplayName("Should not depend on card order or on suits of ordinary cards")
+    void shouldNotDependOnCardOrderOrOnSuitsOfOrdinaryCards() {
+        final double sut = HandStrength.winProbability(vira, List.of(TrucoCard.of(THREE, CLUBS),
+                TrucoCard.of(KING, SPADES), TrucoCard.of(FIVE, DIAMONDS)));
+        assertAll(
+                () -> assertEquals(sut, HandStrength.winProbability(vira, TrucoCard.of(FIVE, DIAMONDS),
+                        TrucoCard.of(THREE, CLUBS), TrucoCard.of(KING, SPADES))),
+                () -> assertEquals(sut, HandStrength.winProbability(vira, TrucoCard.of(THREE, HEARTS),
+                        TrucoCard.of(KING, DIAMONDS), TrucoCard.of(FIVE, DIAMONDS)))
+        );
+    }
+
+    @Test
+    @DisplayName("Should be stronger if a card is replaced by a stronger one")
+    void shouldBeStrongerIfACardIsReplacedByAStrongerOne() {
+        final double weaker = HandStrength.winProbability(vira, TrucoCard.of(SIX, CLUBS), TrucoCard.of(QUEEN, SPADES),
+                TrucoCard.of(ACE, DIAMONDS));
+        final double stronger = HandStrength.winProbability(vira, TrucoCard.of(SIX, CLUBS), TrucoCard.of(QUEEN, SPADES),
+                TrucoCard.of(TWO, DIAMONDS));
+        assertTrue(stronger > weaker);
+    }
+
+    @Test
+    @DisplayName("Should average half a win over all hands")
+    void shouldAverageHalfAWinOverAllHands() {
+        final TrucoCard vira = TrucoCard.of(SEVEN, SPADES);
+        double sum = 0;
+        int hands = 0;
+        for (int card = 0; card < CardValues.CLOSED; card++)
+            for (int otherCard = card + 1; otherCard < CardValues.CLOSED; otherCard++)
+                for (int anotherCard = otherCard + 1; anotherCard < CardValues.CLOSED; anotherCard++) {
+                    if (card == vira.index() || otherCard == vira.index() || anotherCard == vira.index()) continue;
+                    sum += HandStrength.winProbability(vira.index(), card, otherCard, anotherCard);
+                    hands++;
+                }
+        assertEquals(0.5, sum / hands, 1e-6);
+    }
+
+    @Test
+    @DisplayName("Should not accept hands without three distinct open cards other than the vira")
+    void shouldNotAcceptHandsWithoutThreeDistinctOpenCardsOtherThanTheVira() {
+        final TrucoCard card = TrucoCard.of(ACE, CLUBS);
+        final TrucoCard otherCard = TrucoCard.of(TWO, CLUBS);
+        assertAll(
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HandStrength.winProbability(vira, card, card, otherCard)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HandStrength.winProbability(vira, card, otherCard, vira)),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HandStrength.winProbability(vira, card, otherCard, TrucoCard.closed())),
+                () -> assertThrows(IllegalArgumentException.class,
+                        () -> HandStrength.winProbability(vira, List.of(card, otherCard))),
+                () -> assertThrows(NullPointerException.class,
+                        () -> HandStrength.winProbability(null, card, otherCard, TrucoCard.of(KING, CLUBS)))
+        );
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.spi.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpponentActionTest {
+
+    @Test
+    @DisplayName("Should reveal the card of a played card action")
+    void shouldRevealTheCardOfAPlayedCardAction() {
+        final TrucoCard card = TrucoCard.of(TWO, CLUBS);
+        final OpponentAction sut = OpponentAction.played(card, 3);
+        assertAll(
+                () -> assertEquals(OpponentAction.Type.PLAY, sut.getType()),
+                () -> assertEquals(Optional.of(card), sut.getCard()),
+                () -> assertEquals(3, sut.getHandPoints())
+        );
+    }
+
+    @Test
+    @DisplayName("Should not reveal the card of a discard action")
+    void shouldNotRevealTheCardOfADiscardAction() {
+        final OpponentAction sut = OpponentAction.discarded(1);
+        assertAll(
+                () -> assertEquals(OpponentAction.Type.DISCARD, sut.getType()),
+                () -> assertEquals(Optional.empty(), sut.getCard())
+        );
+    }
+
+    @Test
+    @DisplayName("Should not accept null played card")
+    void shouldNotAcceptNullPlayedCard() {
+        assertThrows(NullPointerException.class, () -> OpponentAction.played(null, 1));
+    }
+
+    @Test
+    @DisplayName("Should be equal to actions of the same type and points")
+    void shouldBeEqualToActionsOfTheSameTypeAndPoints() {
+        assertAll(
+                () -> assertEquals(OpponentAction.raised(6), OpponentAction.raised(6)),
+                () -> assertNotEquals(OpponentAction.raised(6), OpponentAction.accepted(6)),
+                () -> assertNotEquals(OpponentAction.quit(3), OpponentAction.quit(6))
+        );
+    }
+}
@@ -254,4 +254,15 @@ class TrucoCardTest {
         assertEquals("[XX]", TrucoCard.closed().toString());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should get the cached card of each dense index")
+    void shouldGetTheCachedCardOfEachDenseIndex() {
+        final TrucoCard card = TrucoCard.of(KING, HEARTS);
+        assertAll(
+                () -> assertSame(card, TrucoCard.ofIndex(card.index())),
+                () -> assertSame(TrucoCard.closed(), TrucoCard.ofIndex(CardValues.CLOSED)),
+                () -> assertThrows(IllegalArgumentException.class, () -> TrucoCard.ofIndex(CardValues.NUMBER_OF_INDEXES))
+        );
+    }
+}
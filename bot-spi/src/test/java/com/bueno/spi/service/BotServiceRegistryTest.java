@@ -0,0 +1,160 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+package com.bueno.spi.service;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BotServiceRegistryTest {
+
+    @Test
+    @DisplayName("Should throw if loading unavailable bot")
+    void shouldThrowIfLoadingUnavailableBot() {
+        assertThrows(NoSuchElementException.class, () -> BotServiceRegistry.load("NoSuchBot"));
+    }
+
+    @Test
+    @DisplayName("Should throw if loading null bot name")
+    void shouldThrowIfLoadingNullBotName() {
+        assertThrows(NoSuchElementException.class, () -> BotServiceRegistry.load(null));
+    }
+
+    @Test
+    @DisplayName("Should not contain unavailable bot")
+    void shouldNotContainUnavailableBot() {
+        assertAll(
+                () -> assertFalse(BotServiceRegistry.contains("NoSuchBot")),
+                () -> assertFalse(BotServiceRegistry.contains(null))
+        );
+    }
+
+    @Test
+    @DisplayName("Should not allow changing bot names")
+    void shouldNotAllowChangingBotNames() {
+        assertThrows(UnsupportedOperationException.class, () -> BotServiceRegistry.names().add("NoSuchBot"));
+    }
+
+    @Test
+    @DisplayName("Should return the same instance of singleton bots")
+    void shouldReturnTheSameInstanceOfSingletonBots() {
+        final BotServiceRegistry.Index sut = new BotServiceRegistry.Index(List.of(providerOf(SingletonBot::new)));
+        assertSame(sut.load("SingletonBot"), sut.load("SingletonBot"));
+    }
+
+    @Test
+    @DisplayName("Should return a new instance of per game bots at each load")
+    void shouldReturnANewInstanceOfPerGameBotsAtEachLoad() {
+        final BotServiceRegistry.Index sut = new BotServiceRegistry.Index(List.of(providerOf(PerGameBot::new)));
+        assertNotSame(sut.load("PerGameBot"), sut.load("PerGameBot"));
+    }
+
+    @Test
+    @DisplayName("Should never share stateful bots even if declared as singleton")
+    void shouldNeverShareStatefulBotsEvenIfDeclaredAsSingleton() {
+        final BotServiceRegistry.Index sut = new BotServiceRegistry.Index(List.of(providerOf(StatefulSingletonBot::new)));
+        assertNotSame(sut.load("StatefulSingletonBot"), sut.load("StatefulSingletonBot"));
+    }
+
+    @Test
+    @DisplayName("Should keep the first provider of duplicated bot names")
+    void shouldKeepTheFirstProviderOfDuplicatedBotNames() {
+        final BotServiceRegistry.Index sut = new BotServiceRegistry.Index(List.of(
+                providerOf(PerGameBot::new), providerOf(SingletonBot::new), providerOf(() -> new PerGameBot() {
+                    @Override
+                    public BotLifecycle getLifecycle() {
+                        return BotLifecycle.SINGLETON;
+                    }
+                })));
+        assertAll(
+                () -> assertEquals(List.of("PerGameBot", "SingletonBot"), sut.names()),
+                () -> assertNotSame(sut.load("PerGameBot"), sut.load("PerGameBot")),
+                () -> assertEquals(PerGameBot.class, sut.load("PerGameBot").getClass())
+        );
+    }
+
+    private static ServiceLoader.Provider<BotServiceProvider> providerOf(Supplier<BotServiceProvider> supplier) {
+        return new ServiceLoader.Provider<>() {
+            @Override
+            public Class<? extends BotServiceProvider> type() {
+                return supplier.get().getClass();
+            }
+
+            @Override
+            public BotServiceProvider get() {
+                return supplier.get();
+            }
+        };
+    }
+
+    private static class PerGameBot implements BotServiceProvider {
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 0;
+        }
+
+        @Override
+        public String getName() {
+            return "PerGameBot";
+        }
+    }
+
+    private static class SingletonBot extends PerGameBot {
+        @Override
+        public String getName() {
+            return "SingletonBot";
+        }
+
+        @Override
+        public BotLifecycle getLifecycle() {
+            return BotLifecycle.SINGLETON;
+        }
+    }
+
+    private static class StatefulSingletonBot extends SingletonBot implements StatefulBotServiceProvider {
+        @Override
+        public String getName() {
+            return "StatefulSingletonBot";
+        }
+    }
+}
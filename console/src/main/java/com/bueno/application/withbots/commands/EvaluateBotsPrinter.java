@@ -10,6 +10,8 @@ public class EvaluateBotsPrinter implements Command<Void> {
     Long botWins;
     double winRate;
     double percentile;
+    long gamesPlayed;
+    double confidence;
 
     public EvaluateBotsPrinter(EvaluateResultsDto resultsDto, String botName) {
         this.numberOfGames = resultsDto.numberOfGames();
@@ -18,15 +20,18 @@ public class EvaluateBotsPrinter implements Command<Void> {
         this.botWins = resultsDto.evaluatedBotWins();
         this.winRate = resultsDto.winRate();
         this.percentile = resultsDto.percentile();
+        this.gamesPlayed = resultsDto.gamesPlayed();
+        this.confidence = resultsDto.confidence();
     }
 
     @Override
     public Void execute() {
         System.out.println("================================================================");
         System.out.println("Time to compute " + numberOfGames + " games: " + computingTime + "ms.\n");
-        System.out.println("Wins of " + botName + ": " + botWins + "/" + numberOfGames);
+        System.out.println("Wins of " + botName + ": " + botWins + "/" + gamesPlayed);
         System.out.printf("Win rate of all games: %.2f%%\n", winRate);
         System.out.printf("Win rate against each bot: %.2f%%\n", percentile);
+        System.out.printf("Confidence of the least settled matchup: %.2f%%\n", confidence * 100);
         System.out.println("================================================================");
         return null;
     }
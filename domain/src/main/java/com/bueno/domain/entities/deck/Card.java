@@ -20,17 +20,21 @@
 
 package com.bueno.domain.entities.deck;
 
+import com.bueno.spi.model.CardValues;
+
 import java.util.Objects;
 
 public final class Card {
 
-    private static final Card[] cache = new Card[41];
+    private static final Card[] cache = new Card[CardValues.NUMBER_OF_INDEXES];
     private final Suit suit;
     private final Rank rank;
+    private final int index;
 
     private Card(Rank rank, Suit suit) {
         this.rank = rank;
         this.suit  = suit;
+        this.index = CardValues.indexOf(rank.value(), suit.value());
     }
 
     public static Card of(Rank rank, Suit suit){
@@ -46,41 +50,41 @@ public final class Card {
         return fromCache(Rank.HIDDEN, Suit.HIDDEN);
     }
 
+    static {
+        for (Rank rank : Rank.values())
+            for (Suit suit : Suit.values())
+                if ((rank == Rank.HIDDEN) == (suit == Suit.HIDDEN)) {
+                    final Card card = new Card(rank, suit);
+                    cache[card.index] = card;
+                }
+    }
+
     private static Card fromCache(Rank rank, Suit suit){
-        int rankValue = rank.value();
-        int suitValue = suit.value();
-        int cachePosition = rankValue == 0 || suitValue == 0 ? 0 : (rankValue - 1) * 4 + suitValue;
+        return cache[CardValues.indexOf(rank.value(), suit.value())];
+    }
 
-        if(cache[cachePosition] == null) cache[cachePosition] = new Card(rank, suit);
-        return cache[cachePosition];
+    public static Card ofIndex(int index){
+        if (index < 0 || index >= CardValues.NUMBER_OF_INDEXES)
+            throw new IllegalArgumentException("Invalid card index: " + index);
+        return cache[index];
     }
 
     public int compareValueTo(Card otherCard, Card vira){
-        return this.getRelativeValue(vira) - otherCard.getRelativeValue(vira);
+        return CardValues.compare(vira.index, index, otherCard.index);
     }
 
     public int getRelativeValue(Card vira) {
-        if (isManilha(vira))
-            return switch (suit) {
-                case DIAMONDS -> 10;
-                case SPADES -> 11;
-                case HEARTS -> 12;
-                case CLUBS -> 13;
-                case HIDDEN -> throw new IllegalStateException("Closed card can not be manilha!");
-            };
-        if(manilhaPositionInfluencesInCardValue(vira)) return rank.value() - 1;
-        return rank.value();
+        return CardValues.relativeValue(vira.index, index);
     }
 
-    private boolean manilhaPositionInfluencesInCardValue(Card vira) {
-        final boolean manilhaRankWasLowerThanCardRank = rank.value() > vira.rank.value();
-        final boolean manilhaIsThree = vira.rank == Rank.THREE;
-        return manilhaRankWasLowerThanCardRank || manilhaIsThree;
+    public boolean isManilha(Card vira){
+        return CardValues.isManilha(vira.index, index);
     }
 
-    public boolean isManilha(Card vira){
-        return getRank() == vira.getRank().next();
+    public int index() {
+        return index;
     }
+
     public boolean isClosed() {
         return rank.equals(Rank.HIDDEN) && suit.equals(Suit.HIDDEN);
     }
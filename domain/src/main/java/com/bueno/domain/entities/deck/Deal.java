@@ -0,0 +1,33 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.deck;
+
+import java.util.List;
+import java.util.Objects;
+
+public record Deal(Card vira, List<Card> firstToPlayCards, List<Card> lastToPlayCards) {
+    public Deal {
+        Objects.requireNonNull(vira, "Vira must not be null!");
+        firstToPlayCards = List.copyOf(firstToPlayCards);
+        lastToPlayCards = List.copyOf(lastToPlayCards);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.deck;
+
+import java.util.random.RandomGenerator;
+
+//Provides the cards of each new hand of a game. Games sharing deal sources that produce the same sequence of deals
+//are played with the same cards, which allows comparing players on equal luck.
+@FunctionalInterface
+public interface DealSource {
+    Deal nextDeal();
+
+    static DealSource shuffled(RandomGenerator random) {
+        final Deck deck = new Deck(random);
+        return deck::deal;
+    }
+}
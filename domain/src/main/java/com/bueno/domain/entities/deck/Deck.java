@@ -20,39 +20,75 @@
 
 package com.bueno.domain.entities.deck;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
+//Cards are kept as their dense indexes in a fixed array. Dealing moves a cursor instead of removing elements, and
+//resetting copies the sorted indexes back, so a deck can be reused for any number of hands and games.
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
+    private static final int NUMBER_OF_CARDS = 40;
+    private static final byte[] SORTED_CARDS = new byte[NUMBER_OF_CARDS];
 
+    static {
+        for (int i = 0; i < NUMBER_OF_CARDS; i++) SORTED_CARDS[i] = (byte) i;
+    }
+
+    private final byte[] cards = new byte[NUMBER_OF_CARDS];
+    private RandomGenerator random;
+    private int cursor;
+
+    //Each deck owns its generator, since it may be shuffled by a thread other than the one that created it.
     public Deck() {
-        generateSortedDeck();
+        this(new SplittableRandom());
+    }
+
+    public Deck(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "Random generator must not be null!");
+        reset();
     }
 
-    private void generateSortedDeck() {
-        for(Rank rank : Rank.values())
-            for(Suit suit : Suit.values())
-                if(rank != Rank.HIDDEN && suit != Suit.HIDDEN)
-                    cards.add(Card.of(rank, suit));
+    public void reset() {
+        System.arraycopy(SORTED_CARDS, 0, cards, 0, NUMBER_OF_CARDS);
+        cursor = 0;
+    }
+
+    public void reset(RandomGenerator random) {
+        this.random = Objects.requireNonNull(random, "Random generator must not be null!");
+        reset();
     }
 
     public List<Card> take(int numberOfCards) {
-        final List<Card> cardsTaken = new ArrayList<>(cards.subList(0, numberOfCards));
-        cards.removeAll(cardsTaken);
-        return cardsTaken;
+        Objects.checkFromIndexSize(cursor, numberOfCards, NUMBER_OF_CARDS);
+        final Card[] cardsTaken = new Card[numberOfCards];
+        for (int i = 0; i < numberOfCards; i++) cardsTaken[i] = Card.ofIndex(cards[cursor++]);
+        return Arrays.asList(cardsTaken);
     }
 
     public Card takeOne() {
-        return cards.remove(0);
+        Objects.checkIndex(cursor, NUMBER_OF_CARDS);
+        return Card.ofIndex(cards[cursor++]);
     }
 
     public void shuffle() {
-        Collections.shuffle(cards);
+        for (int i = NUMBER_OF_CARDS - 1; i > cursor; i--) {
+            final int j = cursor + random.nextInt(i - cursor + 1);
+            final byte card = cards[i];
+            cards[i] = cards[j];
+            cards[j] = card;
+        }
+    }
+
+    public Deal deal() {
+        reset();
+        shuffle();
+        final Card vira = takeOne();
+        return new Deal(vira, List.of(takeOne(), takeOne(), takeOne()), List.of(takeOne(), takeOne(), takeOne()));
     }
 
     public int size() {
-        return cards.size();
+        return NUMBER_OF_CARDS - cursor;
     }
 }
@@ -21,10 +21,13 @@
 package com.bueno.domain.entities.game;
 
 import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deal;
+import com.bueno.domain.entities.deck.DealSource;
 import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.hand.HandResult;
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.IntelHistoryPolicy;
 import com.bueno.domain.entities.player.Player;
 
 import java.time.Instant;
@@ -37,13 +40,16 @@ public class Game {
 
     private final UUID uuid;
     private Deck deck;
+    private DealSource dealSource;
     private final LocalDateTime timestamp;
     private final Player player1;
     private final Player player2;
     private final List<Hand> hands;
+    private int[] intelOffsets = new int[16];
 
     private Player firstToPlay;
     private Player lastToPlay;
+    private IntelHistoryPolicy intelHistoryPolicy = IntelHistoryPolicy.FULL;
 
     public Game(Player player1, Player player2) {
         this(player1, player2, UUID.randomUUID(), new Deck());
@@ -63,6 +69,16 @@ public class Game {
         prepareNewHand();
     }
 
+    public Game(Player player1, Player player2, UUID uuid, DealSource dealSource) {
+        this.dealSource = Objects.requireNonNull(dealSource, "Deal source must not be null!");
+        this.player1 = Objects.requireNonNull(player1);
+        this.player2 = Objects.requireNonNull(player2);
+        this.uuid = uuid;
+        this.hands = new ArrayList<>();
+        this.timestamp = LocalDateTime.now();
+        prepareNewHand();
+    }
+
     public Game(UUID uuid, LocalDateTime timestamp, Player player1, Player player2, Player firstToPlay,
                 Player lastToPlay, List<Hand> hands) {
         this.uuid = uuid;
@@ -71,20 +87,43 @@ public class Game {
         this.player2 = player2;
         this.firstToPlay = firstToPlay;
         this.lastToPlay = lastToPlay;
-        this.hands = new ArrayList<>(hands);
+        this.hands = new ArrayList<>();
+        hands.forEach(this::addHand);
     }
 
     public void prepareNewHand() {
         defineHandPlayingOrder();
 
+        if(dealSource != null) {
+            prepareHandWith(dealSource.nextDeal());
+            return;
+        }
+
         if(deck == null) deck = new Deck();
+        else deck.reset();
         deck.shuffle();
 
         final Card vira = deck.takeOne();
         firstToPlay.setCards(deck.take(3));
         lastToPlay.setCards(deck.take(3));
 
-        final Hand hand = new Hand(firstToPlay, lastToPlay, vira);
+        final Hand hand = new Hand(firstToPlay, lastToPlay, vira, intelHistoryPolicy);
+        addHand(hand);
+    }
+
+    private void prepareHandWith(Deal deal) {
+        firstToPlay.setCards(deal.firstToPlayCards());
+        lastToPlay.setCards(deal.lastToPlayCards());
+        addHand(new Hand(firstToPlay, lastToPlay, deal.vira(), intelHistoryPolicy));
+    }
+
+    //The intel of a game is numbered in sequence across its hands. Intel of finished hands never changes, so the
+    //sequence number of the first intel of each hand is stored when the hand is added.
+    private void addHand(Hand hand) {
+        final int handIndex = hands.size();
+        if (handIndex == intelOffsets.length) intelOffsets = Arrays.copyOf(intelOffsets, 2 * handIndex);
+        intelOffsets[handIndex] = handIndex == 0 ? 0
+                : intelOffsets[handIndex - 1] + hands.get(handIndex - 1).intelHistorySize();
         hands.add(hand);
     }
 
@@ -121,6 +160,90 @@ public class Game {
         return wholeHistory.stream().filter(isAfter).collect(Collectors.toList());
     }
 
+    public IntelHistoryPolicy getIntelHistoryPolicy() {
+        return intelHistoryPolicy;
+    }
+
+    //Applies to the current hand and to the next ones. Hands already finished keep the history they have recorded.
+    public void setIntelHistoryPolicy(IntelHistoryPolicy intelHistoryPolicy) {
+        this.intelHistoryPolicy = Objects.requireNonNull(intelHistoryPolicy, "Intel history policy must not be null!");
+        final Hand hand = currentHand();
+        if (hand != null) hand.setIntelHistoryPolicy(intelHistoryPolicy);
+    }
+
+    //Returns the intel with sequence number equal or greater than the given one, i.e., all the intel after the first
+    //ones already seen. It costs time proportional to the size of the result, not to the size of the game.
+    public List<Intel> getIntelSince(long sequence) {
+        if (sequence < 0) throw new IllegalArgumentException("Intel sequence number must not be negative: " + sequence);
+        final List<Intel> intelSince = new ArrayList<>();
+        if (!hands.isEmpty()) {
+            final int firstHand = handIndexOf(sequence);
+            for (int i = firstHand; i < hands.size(); i++) {
+                final int fromIndex = (int) Math.max(0, sequence - intelOffsets[i]);
+                intelSince.addAll(hands.get(i).getIntelHistorySince(fromIndex));
+            }
+        }
+        if (isDone() && sequence < getIntelSequence()) intelSince.add(Intel.ofGame(this));
+        return intelSince;
+    }
+
+    private int handIndexOf(long sequence) {
+        final int index = Arrays.binarySearch(intelOffsets, 0, hands.size(), (int) Math.min(sequence, Integer.MAX_VALUE));
+        if (index >= 0) {
+            int handIndex = index;
+            while (handIndex + 1 < hands.size() && intelOffsets[handIndex + 1] == intelOffsets[handIndex]) handIndex++;
+            return handIndex;
+        }
+        return -index - 2;
+    }
+
+    //Returns the number of intel produced by the game so far, which is also the sequence number of the next intel.
+    public long getIntelSequence() {
+        if (hands.isEmpty()) return 0;
+        final int lastHand = hands.size() - 1;
+        return intelOffsets[lastHand] + hands.get(lastHand).intelHistorySize() + (isDone() ? 1 : 0);
+    }
+
+    //Snapshots keep the mutable core of the game: the players scores and cards, the hands played, and the state of the
+    //current hand. Restoring a snapshot does not rewind the deck or the deal source, so hands prepared after restoring
+    //are dealt with new cards. Snapshots are meant to explore moves within a hand, as search-based bots do.
+    public Snapshot snapshot() {
+        final Hand hand = currentHand();
+        return new Snapshot(player1.snapshot(), player2.snapshot(), firstToPlay, lastToPlay, hands.size(),
+                hand == null ? null : hand.snapshot(), intelHistoryPolicy);
+    }
+
+    public void restore(Snapshot snapshot) {
+        player1.restore(snapshot.player1);
+        player2.restore(snapshot.player2);
+        firstToPlay = snapshot.firstToPlay;
+        lastToPlay = snapshot.lastToPlay;
+        if (hands.size() > snapshot.numberOfHands) hands.subList(snapshot.numberOfHands, hands.size()).clear();
+        if (snapshot.currentHand != null) currentHand().restore(snapshot.currentHand);
+        intelHistoryPolicy = snapshot.intelHistoryPolicy;
+    }
+
+    public static final class Snapshot {
+        private final Player.Snapshot player1;
+        private final Player.Snapshot player2;
+        private final Player firstToPlay;
+        private final Player lastToPlay;
+        private final int numberOfHands;
+        private final Hand.Snapshot currentHand;
+        private final IntelHistoryPolicy intelHistoryPolicy;
+
+        private Snapshot(Player.Snapshot player1, Player.Snapshot player2, Player firstToPlay, Player lastToPlay,
+                         int numberOfHands, Hand.Snapshot currentHand, IntelHistoryPolicy intelHistoryPolicy) {
+            this.player1 = player1;
+            this.player2 = player2;
+            this.firstToPlay = firstToPlay;
+            this.lastToPlay = lastToPlay;
+            this.numberOfHands = numberOfHands;
+            this.currentHand = currentHand;
+            this.intelHistoryPolicy = intelHistoryPolicy;
+        }
+    }
+
     public UUID getUuid() {
         return uuid;
     }
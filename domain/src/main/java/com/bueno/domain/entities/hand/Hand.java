@@ -25,9 +25,13 @@ import com.bueno.domain.entities.game.GameRuleViolationException;
 import com.bueno.domain.entities.hand.states.*;
 import com.bueno.domain.entities.intel.Event;
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.IntelHistoryPolicy;
+import com.bueno.domain.entities.intel.IntelLogEntry;
 import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.intel.PossibleActions;
 import com.bueno.domain.entities.player.Player;
 
+import java.time.Instant;
 import java.util.*;
 
 public class Hand {
@@ -37,7 +41,9 @@ public class Hand {
     private final List<Card> openCards;
     private final List<Round> roundsPlayed;
     private final List<Intel> history;
-    private EnumSet<PossibleAction> possibleActions;
+    private final List<IntelLogEntry> intelLog = new ArrayList<>();
+    private Intel lastLoggedIntel;
+    private int possibleActions;
 
     private Player firstToPlay;
     private Player lastToPlay;
@@ -52,18 +58,23 @@ public class Hand {
     private HandResult result;
     private HandState state;
 
+    private IntelHistoryPolicy intelHistoryPolicy = IntelHistoryPolicy.FULL;
+    private Event lastEvent;
+
     //This method must only be used to recovery the object state from database. Do not use for creating a new hand.
     //To create a hand, use the Game class, since it is its bounded context border.
     public Hand(Card vira, List<Card> dealtCards, List<Card> openCards, List<Round> roundsPlayed, List<Intel> history,
-                EnumSet<PossibleAction> possibleActions, Player firstToPlay, Player lastToPlay, Player currentPlayer,
-                Player lastBetRaiser, Player eventPlayer, Card cardToPlayAgainst, HandPoints points,
-                HandPoints pointsProposal, HandResult result, String stateName){
+                List<IntelLogEntry> intelLog, Set<PossibleAction> possibleActions, Player firstToPlay,
+                Player lastToPlay, Player currentPlayer, Player lastBetRaiser, Player eventPlayer,
+                Card cardToPlayAgainst, HandPoints points, HandPoints pointsProposal, HandResult result,
+                String stateName){
         this.vira = vira;
         this.dealtCards = new ArrayList<>(dealtCards);
         this.openCards = new ArrayList<>(openCards);
         this.roundsPlayed = new ArrayList<>(roundsPlayed);
         this.history = new ArrayList<>(history);
-        this.possibleActions = EnumSet.copyOf(possibleActions);
+        this.intelLog.addAll(intelLog);
+        this.possibleActions = PossibleAction.maskOf(possibleActions);
         this.firstToPlay = firstToPlay;
         this.lastToPlay = lastToPlay;
         this.currentPlayer = currentPlayer;
@@ -73,21 +84,26 @@ public class Hand {
         this.points = points;
         this.pointsProposal = pointsProposal;
         this.result = result;
-        this.state = stateFromString(stateName);
+        setState(stateFromString(stateName));
     }
 
     private HandState stateFromString(String stateName) {
         return switch (stateName){
-            case "DONE" -> new Done(this);
-            case "NOCARD" -> new NoCard(this);
-            case "ONECARD" -> new OneCard(this);
-            case "WAITINGMAODEONZE" -> new WaitingMaoDeOnze(this);
-            case "WAITINGRAISERESPONSE" -> new WaitingRaiseResponse(this);
+            case "DONE" -> Done.INSTANCE;
+            case "NOCARD" -> NoCard.INSTANCE;
+            case "ONECARD" -> OneCard.INSTANCE;
+            case "WAITINGMAODEONZE" -> WaitingMaoDeOnze.INSTANCE;
+            case "WAITINGRAISERESPONSE" -> WaitingRaiseResponse.INSTANCE;
             default -> throw new IllegalArgumentException("No state for name: " + stateName);
         };
     }
 
     public Hand(Player firstToPlay, Player lastToPlay, Card vira){
+        this(firstToPlay, lastToPlay, vira, IntelHistoryPolicy.FULL);
+    }
+
+    public Hand(Player firstToPlay, Player lastToPlay, Card vira, IntelHistoryPolicy intelHistoryPolicy){
+        this.intelHistoryPolicy = Objects.requireNonNull(intelHistoryPolicy, "Intel history policy must not be null!");
         this.firstToPlay = Objects.requireNonNull(firstToPlay);
         this.lastToPlay = Objects.requireNonNull(lastToPlay);
         this.vira = Objects.requireNonNull(vira);
@@ -112,12 +128,12 @@ public class Hand {
 
     private void setMaoDeOnzeMode() {
         currentPlayer = this.firstToPlay.getScore() == 11 ? this.firstToPlay : this.lastToPlay;
-        state = new WaitingMaoDeOnze(this);
+        setState(WaitingMaoDeOnze.INSTANCE);
     }
 
     private void setOrdinaryMode() {
         currentPlayer = this.firstToPlay;
-        state = new NoCard(this);
+        setState(NoCard.INSTANCE);
     }
 
     public void playFirstCard(Player player, Card card){
@@ -125,7 +141,7 @@ public class Hand {
         final var requesterCard = Objects.requireNonNull(card, "Card must not be null!");
         validateRequest(requester, PossibleAction.PLAY);
         eventPlayer = currentPlayer;
-        state.playFirstCard(requester, requesterCard);
+        state.playFirstCard(this, requester, requesterCard);
     }
 
     public void playSecondCard(Player player, Card cards){
@@ -133,39 +149,93 @@ public class Hand {
         final var requesterCard = Objects.requireNonNull(cards, "Card must not be null!");
         validateRequest(requester, PossibleAction.PLAY);
         eventPlayer = currentPlayer;
-        state.playSecondCard(requester,requesterCard);
+        state.playSecondCard(this, requester,requesterCard);
     }
 
     public void raise(Player requester){
         final var player = Objects.requireNonNull(requester, "Player must not be null!");
         validateRequest(requester, PossibleAction.RAISE);
         eventPlayer = currentPlayer;
-        state.raise(player);
+        state.raise(this, player);
     }
 
     public void accept(Player responder){
         final var player = Objects.requireNonNull(responder, "Player must not be null!");
         validateRequest(player, PossibleAction.ACCEPT);
         eventPlayer = currentPlayer;
-        state.accept(player);
+        state.accept(this, player);
     }
 
     public void quit(Player responder){
         final var player = Objects.requireNonNull(responder, "Player must not be null!");
         validateRequest(player, PossibleAction.QUIT);
         eventPlayer = currentPlayer;
-        state.quit(player);
+        state.quit(this, player);
     }
 
     private void validateRequest(Player requester, PossibleAction action){
         if(!requester.equals(currentPlayer))
             throw new IllegalArgumentException(requester + " can not " + action + " in " + currentPlayer + " turn.");
-        if(!possibleActions.contains(action))
-            throw new IllegalStateException("Can not " + action + ", but " + possibleActions + ".");
+        if(!action.isIn(possibleActions))
+            throw new IllegalStateException("Can not " + action + ", but " + getPossibleActions() + ".");
     }
 
+    //Intel restored from the database stays in the history list, while new events are appended to the intel log and
+    //only turned into intel snapshots when they are requested.
     public void updateHistory(Event event) {
-        history.add(Intel.ofHand(this, event));
+        lastEvent = event;
+        lastLoggedIntel = null;
+        switch (intelHistoryPolicy) {
+            case FULL -> intelLog.add(toLogEntry(event));
+            case LAST_ONLY -> {
+                history.clear();
+                intelLog.clear();
+                intelLog.add(toLogEntry(event));
+            }
+            case NONE -> {}
+        }
+    }
+
+    private IntelLogEntry toLogEntry(Event event) {
+        final long firstToPlayCards = cardsMaskOf(firstToPlay);
+        final long lastToPlayCards = cardsMaskOf(lastToPlay);
+        final boolean canMaskCards = firstToPlayCards >= 0 && lastToPlayCards >= 0;
+        final List<Intel.PlayerIntel> players = canMaskCards ? null
+                : List.of(new Intel.PlayerIntel(firstToPlay), new Intel.PlayerIntel(lastToPlay));
+        return new IntelLogEntry(Instant.now(), event, eventPlayer, currentPlayer, firstToPlay, lastToPlay,
+                firstToPlay.getScore(), lastToPlay.getScore(), firstToPlayCards, lastToPlayCards, players, points,
+                pointsProposal, result, cardToPlayAgainst, openCards.size(), roundsPlayed.size(), possibleActions);
+    }
+
+    //Returns -1 if the player cards are not the dealt cards in the order they have been dealt.
+    private long cardsMaskOf(Player player) {
+        long mask = 0;
+        int dealtIndex = 0;
+        for (Card card : player.getCards()) {
+            while (dealtIndex < dealtCards.size() && !dealtCards.get(dealtIndex).equals(card)) dealtIndex++;
+            if (dealtIndex >= Math.min(dealtCards.size(), Long.SIZE - 1)) return -1;
+            mask |= 1L << dealtIndex++;
+        }
+        return mask;
+    }
+
+    private List<Card> cardsOf(long mask) {
+        final List<Card> cards = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1)
+            cards.add(dealtCards.get(Long.numberOfTrailingZeros(remaining)));
+        return cards;
+    }
+
+    private Intel toIntel(IntelLogEntry entry) {
+        final List<Intel.PlayerIntel> players = entry.players() != null ? entry.players() : List.of(
+                toPlayerIntel(entry.firstToPlay(), entry.firstToPlayScore(), entry.firstToPlayCards()),
+                toPlayerIntel(entry.lastToPlay(), entry.lastToPlayScore(), entry.lastToPlayCards()));
+        return Intel.ofLogEntry(entry, vira, openCards.subList(0, entry.numberOfOpenCards()),
+                roundsPlayed.subList(0, entry.numberOfRoundsPlayed()), players);
+    }
+
+    private Intel.PlayerIntel toPlayerIntel(Player player, int score, long cards) {
+        return new Intel.PlayerIntel(player.getUsername(), player.getUuid(), score, player.isBot(), cardsOf(cards));
     }
 
     public void playRound(Card lastCard){
@@ -245,15 +315,20 @@ public class Hand {
         return Optional.ofNullable(result);
     }
 
-    public EnumSet<PossibleAction> getPossibleActions() {
-        return possibleActions;
+    public PossibleActions getPossibleActions() {
+        return PossibleActions.of(possibleActions);
     }
 
-    public void setPossibleActions(EnumSet<PossibleAction> actions){
-        this.possibleActions = EnumSet.copyOf(actions);
+    public void setPossibleActions(int actions){
+        this.possibleActions = actions;
     }
 
+    //Without recorded history, the last intel is built from the current hand state, which has not changed since the
+    //last event. Only the intel timestamp differs from the one it would have if it had been recorded.
     public Intel getLastIntel(){
+        if(lastLoggedIntel != null) return lastLoggedIntel;
+        if(!intelLog.isEmpty()) return lastLoggedIntel = toIntel(intelLog.get(intelLog.size() - 1));
+        if(history.isEmpty()) return Intel.ofHand(this, lastEvent);
         return history.get(history.size() - 1);
     }
 
@@ -269,6 +344,10 @@ public class Hand {
         return roundsPlayed.size();
     }
 
+    public Round getRoundPlayed(int index){
+        return roundsPlayed.get(index);
+    }
+
     public boolean isDone(){
         return state instanceof Done;
     }
@@ -306,7 +385,56 @@ public class Hand {
     }
 
     public List<Intel> getIntelHistory(){
-        return List.copyOf(history);
+        if(intelLog.isEmpty()) return List.copyOf(history);
+        final List<Intel> wholeHistory = new ArrayList<>(history.size() + intelLog.size());
+        wholeHistory.addAll(history);
+        for (int i = 0; i < intelLog.size() - 1; i++) wholeHistory.add(toIntel(intelLog.get(i)));
+        wholeHistory.add(getLastIntel());
+        return Collections.unmodifiableList(wholeHistory);
+    }
+
+    //Intel restored from the database as it was stored before hands kept the intel log.
+    public List<Intel> getStoredIntelHistory(){
+        return Collections.unmodifiableList(history);
+    }
+
+    public List<IntelLogEntry> getIntelLog(){
+        return Collections.unmodifiableList(intelLog);
+    }
+
+    public List<Intel> getIntelHistorySince(int index){
+        final int size = intelHistorySize();
+        if(index >= size) return List.of();
+        final List<Intel> intelSince = new ArrayList<>(size - index);
+        for (int i = index; i < history.size(); i++) intelSince.add(history.get(i));
+        for (int i = Math.max(0, index - history.size()); i < intelLog.size() - 1; i++) intelSince.add(toIntel(intelLog.get(i)));
+        if(!intelLog.isEmpty()) intelSince.add(getLastIntel());
+        return intelSince;
+    }
+
+    public int intelHistorySize(){
+        return history.size() + intelLog.size();
+    }
+
+    public IntelHistoryPolicy getIntelHistoryPolicy() {
+        return intelHistoryPolicy;
+    }
+
+    public void setIntelHistoryPolicy(IntelHistoryPolicy intelHistoryPolicy) {
+        this.intelHistoryPolicy = Objects.requireNonNull(intelHistoryPolicy, "Intel history policy must not be null!");
+        switch (intelHistoryPolicy) {
+            case FULL -> {}
+            case LAST_ONLY -> {
+                if (!intelLog.isEmpty()) history.clear();
+                history.subList(0, Math.max(0, history.size() - 1)).clear();
+                intelLog.subList(0, Math.max(0, intelLog.size() - 1)).clear();
+            }
+            case NONE -> {
+                history.clear();
+                intelLog.clear();
+                lastLoggedIntel = null;
+            }
+        }
     }
 
     public Player getLastBetRaiser() {
@@ -319,12 +447,103 @@ public class Hand {
 
     public void setState(HandState state) {
         this.state = state;
+        state.enter(this);
     }
 
     public Card getVira() {
         return vira;
     }
 
+    //Open cards, rounds and intel are only appended during a hand, so a snapshot keeps their sizes and restoring it
+    //removes whatever has been appended since. Only the intel kept by the last-only policy is replaced, so it is copied.
+    public Snapshot snapshot() {
+        final boolean isLastOnly = intelHistoryPolicy == IntelHistoryPolicy.LAST_ONLY;
+        return new Snapshot(openCards.size(), roundsPlayed.size(), history.size(), intelLog.size(),
+                isLastOnly ? List.copyOf(history) : null, isLastOnly ? List.copyOf(intelLog) : null,
+                possibleActions, firstToPlay, lastToPlay, currentPlayer, lastBetRaiser, eventPlayer,
+                cardToPlayAgainst, points, pointsProposal, result, state, intelHistoryPolicy, lastEvent);
+    }
+
+    public void restore(Snapshot snapshot) {
+        truncate(openCards, snapshot.numberOfOpenCards);
+        truncate(roundsPlayed, snapshot.numberOfRoundsPlayed);
+        if (snapshot.history != null) {
+            history.clear();
+            history.addAll(snapshot.history);
+            intelLog.clear();
+            intelLog.addAll(snapshot.intelLog);
+        } else {
+            truncate(history, snapshot.historySize);
+            truncate(intelLog, snapshot.intelLogSize);
+        }
+        lastLoggedIntel = null;
+        possibleActions = snapshot.possibleActions;
+        firstToPlay = snapshot.firstToPlay;
+        lastToPlay = snapshot.lastToPlay;
+        currentPlayer = snapshot.currentPlayer;
+        lastBetRaiser = snapshot.lastBetRaiser;
+        eventPlayer = snapshot.eventPlayer;
+        cardToPlayAgainst = snapshot.cardToPlayAgainst;
+        points = snapshot.points;
+        pointsProposal = snapshot.pointsProposal;
+        result = snapshot.result;
+        state = snapshot.state;
+        intelHistoryPolicy = snapshot.intelHistoryPolicy;
+        lastEvent = snapshot.lastEvent;
+    }
+
+    private static void truncate(List<?> list, int size) {
+        if (list.size() > size) list.subList(size, list.size()).clear();
+    }
+
+    public static final class Snapshot {
+        private final int numberOfOpenCards;
+        private final int numberOfRoundsPlayed;
+        private final int historySize;
+        private final int intelLogSize;
+        private final List<Intel> history;
+        private final List<IntelLogEntry> intelLog;
+        private final int possibleActions;
+        private final Player firstToPlay;
+        private final Player lastToPlay;
+        private final Player currentPlayer;
+        private final Player lastBetRaiser;
+        private final Player eventPlayer;
+        private final Card cardToPlayAgainst;
+        private final HandPoints points;
+        private final HandPoints pointsProposal;
+        private final HandResult result;
+        private final HandState state;
+        private final IntelHistoryPolicy intelHistoryPolicy;
+        private final Event lastEvent;
+
+        private Snapshot(int numberOfOpenCards, int numberOfRoundsPlayed, int historySize, int intelLogSize,
+                         List<Intel> history, List<IntelLogEntry> intelLog, int possibleActions, Player firstToPlay,
+                         Player lastToPlay, Player currentPlayer, Player lastBetRaiser, Player eventPlayer,
+                         Card cardToPlayAgainst, HandPoints points, HandPoints pointsProposal, HandResult result,
+                         HandState state, IntelHistoryPolicy intelHistoryPolicy, Event lastEvent) {
+            this.numberOfOpenCards = numberOfOpenCards;
+            this.numberOfRoundsPlayed = numberOfRoundsPlayed;
+            this.historySize = historySize;
+            this.intelLogSize = intelLogSize;
+            this.history = history;
+            this.intelLog = intelLog;
+            this.possibleActions = possibleActions;
+            this.firstToPlay = firstToPlay;
+            this.lastToPlay = lastToPlay;
+            this.currentPlayer = currentPlayer;
+            this.lastBetRaiser = lastBetRaiser;
+            this.eventPlayer = eventPlayer;
+            this.cardToPlayAgainst = cardToPlayAgainst;
+            this.points = points;
+            this.pointsProposal = pointsProposal;
+            this.result = result;
+            this.state = state;
+            this.intelHistoryPolicy = intelHistoryPolicy;
+            this.lastEvent = lastEvent;
+        }
+    }
+
     public boolean isMaoDeOnze() {
         return firstToPlay.getScore() == 11 ^ lastToPlay.getScore() == 11;
     }
@@ -359,8 +578,10 @@ public class Hand {
     }
 
     private int getMaxHandPoints(){
-        final int firstToPlayScore = firstToPlay.getScore();
-        final int lastToPlayScore = lastToPlay.getScore();
+        return maxHandPoints(firstToPlay.getScore(), lastToPlay.getScore());
+    }
+
+    public static int maxHandPoints(int firstToPlayScore, int lastToPlayScore){
         final int pointsToLosingPlayerWin = Player.MAX_SCORE - Math.min(firstToPlayScore, lastToPlayScore);
         return pointsToLosingPlayerWin % 3 == 0 ? pointsToLosingPlayerWin
                 : pointsToLosingPlayerWin + (3 - pointsToLosingPlayerWin % 3);
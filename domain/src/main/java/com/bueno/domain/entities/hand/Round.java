@@ -60,13 +60,14 @@ public class Round {
     }
 
     public void play() {
-        final Optional<Card> possibleWinnerCard = getWinnerCard();
-        this.winner = possibleWinnerCard.map(c -> c.equals(firstCard)? firstToPlay : lastToPlay).orElse(null);
+        final int comparison = firstCard.compareValueTo(lastCard, vira);
+        this.winner = comparison == 0 ? null : comparison > 0 ? firstToPlay : lastToPlay;
     }
 
     public Optional<Card> getWinnerCard(){
-        if (firstCard.compareValueTo(lastCard, vira) == 0) return Optional.empty();
-        return firstCard.compareValueTo(lastCard, vira) > 0 ? Optional.of(firstCard) : Optional.of(lastCard);
+        final int comparison = firstCard.compareValueTo(lastCard, vira);
+        if (comparison == 0) return Optional.empty();
+        return comparison > 0 ? Optional.of(firstCard) : Optional.of(lastCard);
     }
 
     public Optional<Player> getWinner() {
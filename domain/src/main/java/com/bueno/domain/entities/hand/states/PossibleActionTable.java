@@ -0,0 +1,47 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.hand.states;
+
+import static com.bueno.domain.entities.intel.PossibleAction.*;
+
+//Possible actions of each hand state, indexed by the state and by whether the current player can raise the bet.
+final class PossibleActionTable {
+    static final int NO_CARD = 0;
+    static final int ONE_CARD = 1;
+    static final int WAITING_RAISE_RESPONSE = 2;
+    static final int WAITING_MAO_DE_ONZE = 3;
+    static final int DONE = 4;
+
+    private static final int[] MASKS = {
+            PLAY.mask(), PLAY.mask() | RAISE.mask(),
+            PLAY.mask(), PLAY.mask() | RAISE.mask(),
+            ACCEPT.mask() | QUIT.mask(), ACCEPT.mask() | QUIT.mask() | RAISE.mask(),
+            ACCEPT.mask() | QUIT.mask(), ACCEPT.mask() | QUIT.mask(),
+            0, 0
+    };
+
+    private PossibleActionTable() {
+    }
+
+    static int possibleActions(int state, boolean canRaiseBet) {
+        return MASKS[2 * state + (canRaiseBet ? 1 : 0)];
+    }
+}
@@ -29,7 +29,6 @@ import com.bueno.domain.entities.player.Player;
 
 import java.time.Instant;
 import java.util.*;
-import java.util.stream.Collectors;
 
 public class Intel{
 
@@ -57,16 +56,20 @@ public class Intel{
     private String eventPlayerUsername;
     private UUID eventPlayerUuid;
     private String event;
-    private Set<String> possibleActions;
+    private PossibleActions possibleActions;
 
     private Intel() {
-        timestamp = Instant.now();
+        this(Instant.now());
+    }
+
+    private Intel(Instant timestamp) {
+        this.timestamp = timestamp;
     }
 
     public Intel(Instant timestamp, boolean gameIsDone, UUID gameWinner, boolean maoDeOnze, Integer handPoints, Integer pointsProposal, List<Optional<String>> roundWinnersUsernames,
                  List<Optional<UUID>> roundWinnersUuid, int roundsPlayed, Card vira, List<Card> openCards, String handWinner, UUID currentPlayerUuid, Integer currentPlayerScore,
                  String currentPlayerUsername, Integer currentOpponentScore, String currentOpponentUsername, Card cardToPlayAgainst,
-                 List<PlayerIntel> playersIntel, String event, UUID eventPlayerUuid, String eventPlayerUsername, Set<String> possibleActions){
+                 List<PlayerIntel> playersIntel, String event, UUID eventPlayerUuid, String eventPlayerUsername, PossibleActions possibleActions){
         this.timestamp = timestamp;
         this.gameIsDone = gameIsDone;
         this.gameWinner = gameWinner;
@@ -89,7 +92,7 @@ public class Intel{
         this.event = event;
         this.eventPlayerUuid = eventPlayerUuid;
         this.eventPlayerUsername = eventPlayerUsername;
-        this.possibleActions = Set.copyOf(possibleActions);
+        this.possibleActions = possibleActions != null ? possibleActions : PossibleActions.none();
     }
 
     static public Intel ofHand(Hand currentHand, Event event){
@@ -101,6 +104,39 @@ public class Intel{
         return result;
     }
 
+    static public Intel ofLogEntry(IntelLogEntry entry, Card vira, List<Card> openCards, List<Round> roundsPlayed,
+                                   List<PlayerIntel> players){
+        final Intel result = new Intel(entry.timestamp());
+        result.event = entry.event().toString();
+        result.maoDeOnze = entry.firstToPlayScore() == 11 ^ entry.lastToPlayScore() == 11;
+        result.handPoints = entry.points().get();
+        if(entry.pointsProposal() != null) result.handPointsProposal = entry.pointsProposal().get();
+        result.roundWinnersUsernames = getRoundWinnersUsernames(roundsPlayed);
+        result.roundWinnersUuid = getRoundWinnersUuid(roundsPlayed);
+        result.roundsPlayed = result.roundWinnersUsernames.size();
+        result.vira = vira;
+        result.handWinner = entry.result() == null ? null : entry.result().getWinner().map(Player::getUsername).orElse(null);
+        result.openCards = List.copyOf(openCards);
+        result.cardToPlayAgainst = entry.cardToPlayAgainst();
+        result.possibleActions = PossibleActions.of(entry.possibleActions());
+        result.players = players;
+
+        final Player eventPlayer = entry.eventPlayer();
+        result.eventPlayerUsername = eventPlayer != null ? eventPlayer.getUsername() : null;
+        result.eventPlayerUuid = eventPlayer != null ? eventPlayer.getUuid() : null;
+
+        final Player currentPlayer = entry.currentPlayer();
+        if(currentPlayer == null) return result;
+        final boolean isFirstToPlay = currentPlayer.equals(entry.firstToPlay());
+        final Player opponent = isFirstToPlay ? entry.lastToPlay() : entry.firstToPlay();
+        result.currentPlayerScore = isFirstToPlay ? entry.firstToPlayScore() : entry.lastToPlayScore();
+        result.currentPlayerUsername = currentPlayer.getUsername();
+        result.currentPlayerUuid = currentPlayer.getUuid();
+        result.currentOpponentScore = isFirstToPlay ? entry.lastToPlayScore() : entry.firstToPlayScore();
+        result.currentOpponentUsername = opponent.getUsername();
+        return result;
+    }
+
     static public Intel ofGame(Game currentGame){
         final Game game = Objects.requireNonNull(currentGame);
         final Intel result = ofHand(game.currentHand(), Event.GAME_OVER);
@@ -112,14 +148,15 @@ public class Intel{
         maoDeOnze = hand.isMaoDeOnze();
         handPoints = hand.getPoints().get();
         if(hand.getPointsProposal() != null) handPointsProposal = hand.getPointsProposal().get();
-        roundWinnersUsernames = getRoundWinnersUsernames(hand);
-        roundWinnersUuid = getRoundWinnersUuid(hand);
+        final List<Round> rounds = hand.getRoundsPlayed();
+        roundWinnersUsernames = getRoundWinnersUsernames(rounds);
+        roundWinnersUuid = getRoundWinnersUuid(rounds);
         roundsPlayed = roundWinnersUsernames.size();
         vira = hand.getVira();
         handWinner = hand.getResult().flatMap(HandResult::getWinner).map(Player::getUsername).orElse(null);
         openCards = List.copyOf(hand.getOpenCards());
         cardToPlayAgainst = hand.getCardToPlayAgainst().orElse(null);
-        possibleActions = hand.getPossibleActions().stream().map(Objects::toString).collect(Collectors.toSet());
+        possibleActions = hand.getPossibleActions();
     }
 
     private void setPlayersIntel(Hand hand){
@@ -191,8 +228,8 @@ public class Intel{
         }
     }
 
-    private List<Optional<String>> getRoundWinnersUsernames(Hand hand) {
-        return hand.getRoundsPlayed().stream()
+    private static List<Optional<String>> getRoundWinnersUsernames(List<Round> rounds) {
+        return rounds.stream()
                 .map(Round::getWinner)
                 .map(maybeWinner -> maybeWinner.orElse(null))
                 .map(player -> player != null ? player.getUsername() : null)
@@ -200,8 +237,8 @@ public class Intel{
                 .toList();
     }
 
-    private List<Optional<UUID>> getRoundWinnersUuid(Hand hand) {
-        return hand.getRoundsPlayed().stream()
+    private static List<Optional<UUID>> getRoundWinnersUuid(List<Round> rounds) {
+        return rounds.stream()
                 .map(Round::getWinner)
                 .map(maybeWinner -> maybeWinner.orElse(null))
                 .map(player -> player != null ? player.getUuid() : null)
@@ -261,7 +298,7 @@ public class Intel{
         return Optional.ofNullable(cardToPlayAgainst);
     }
 
-    public Set<String> possibleActions() {
+    public PossibleActions possibleActions() {
         return possibleActions;
     }
 
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.entities.intel;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.player.Player;
+
+import java.time.Instant;
+import java.util.List;
+
+//Compact record of a hand event. Open cards and rounds are only appended to a hand, so the entry keeps how many of
+//them there were, and the players' cards are kept as bitmasks over the cards dealt in the hand. If the cards of a
+//player can not be represented that way, the players intel is copied to the entry instead.
+public record IntelLogEntry(Instant timestamp, Event event, Player eventPlayer, Player currentPlayer,
+                            Player firstToPlay, Player lastToPlay, int firstToPlayScore, int lastToPlayScore,
+                            long firstToPlayCards, long lastToPlayCards, List<Intel.PlayerIntel> players,
+                            HandPoints points, HandPoints pointsProposal, HandResult result, Card cardToPlayAgainst,
+                            int numberOfOpenCards, int numberOfRoundsPlayed, int possibleActions) {
+}
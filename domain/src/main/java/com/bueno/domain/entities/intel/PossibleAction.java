@@ -20,9 +20,26 @@
 
 package com.bueno.domain.entities.intel;
 
+import java.util.Set;
+
 public enum PossibleAction {
     PLAY,
     RAISE,
     ACCEPT,
-    QUIT
+    QUIT;
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public boolean isIn(int mask) {
+        return (mask & mask()) != 0;
+    }
+
+    public static int maskOf(Set<PossibleAction> actions) {
+        if (actions instanceof PossibleActions possibleActions) return possibleActions.mask();
+        int mask = 0;
+        for (PossibleAction action : actions) mask |= action.mask();
+        return mask;
+    }
 }
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.intel;
+
+import java.util.*;
+
+//Immutable set of possible actions kept as the bit mask of PossibleAction. Sets of every mask are cached, so they
+//are shared and never allocated while playing. DTOs only see the names of the actions, which are cached as well.
+public final class PossibleActions extends AbstractSet<PossibleAction> {
+
+    private static final PossibleAction[] VALUES = PossibleAction.values();
+    private static final PossibleActions[] CACHE = new PossibleActions[1 << VALUES.length];
+
+    static {
+        for (int mask = 0; mask < CACHE.length; mask++) CACHE[mask] = new PossibleActions(mask);
+    }
+
+    private final int mask;
+    private final Set<String> names;
+
+    private PossibleActions(int mask) {
+        this.mask = mask;
+        final List<String> names = new ArrayList<>();
+        for (PossibleAction action : VALUES) if (action.isIn(mask)) names.add(action.name());
+        this.names = Set.copyOf(names);
+    }
+
+    public static PossibleActions of(int mask) {
+        if (mask < 0 || mask >= CACHE.length) throw new IllegalArgumentException("Invalid possible actions mask: " + mask);
+        return CACHE[mask];
+    }
+
+    public static PossibleActions of(PossibleAction... actions) {
+        int mask = 0;
+        for (PossibleAction action : actions) mask |= action.mask();
+        return CACHE[mask];
+    }
+
+    public static PossibleActions none() {
+        return CACHE[0];
+    }
+
+    public static PossibleActions fromNames(Collection<String> names) {
+        if (names == null) return none();
+        int mask = 0;
+        for (String name : names) mask |= PossibleAction.valueOf(name).mask();
+        return CACHE[mask];
+    }
+
+    public Set<String> names() {
+        return names;
+    }
+
+    public int mask() {
+        return mask;
+    }
+
+    public boolean contains(PossibleAction action) {
+        return action.isIn(mask);
+    }
+
+    @Override
+    public boolean contains(Object object) {
+        return object instanceof PossibleAction action && action.isIn(mask);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        if (collection instanceof PossibleActions actions) return (actions.mask & ~mask) == 0;
+        return super.containsAll(collection);
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    @Override
+    public Iterator<PossibleAction> iterator() {
+        return new Iterator<>() {
+            private int remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public PossibleAction next() {
+                if (remaining == 0) throw new NoSuchElementException();
+                final int ordinal = Integer.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return VALUES[ordinal];
+            }
+        };
+    }
+}
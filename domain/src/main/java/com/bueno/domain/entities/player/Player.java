@@ -24,6 +24,7 @@ import com.bueno.domain.entities.deck.Card;
 import com.bueno.domain.entities.hand.HandPoints;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -113,6 +114,25 @@ public class Player {
         return isBot;
     }
 
+    public Snapshot snapshot() {
+        return new Snapshot(score, cards == null ? null : cards.toArray(Card[]::new));
+    }
+
+    public void restore(Snapshot snapshot) {
+        score = snapshot.score;
+        cards = snapshot.cards == null ? null : new ArrayList<>(Arrays.asList(snapshot.cards));
+    }
+
+    public static final class Snapshot {
+        private final int score;
+        private final Card[] cards;
+
+        private Snapshot(int score, Card[] cards) {
+            this.score = score;
+            this.cards = cards;
+        }
+    }
+
     @Override
     public String toString() {
         return String.format("Player = %s (%s) has %d point(s)", username, uuid, score);
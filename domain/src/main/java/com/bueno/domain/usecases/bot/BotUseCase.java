@@ -27,39 +27,67 @@ import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
 import com.bueno.domain.usecases.bot.handlers.MaoDeOnzeHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
 import com.bueno.domain.usecases.bot.handlers.RaiseRequestHandler;
+import com.bueno.domain.usecases.game.converter.GameConverter;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.HandResultRepository;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceManager;
 import com.bueno.spi.service.BotServiceProvider;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
 
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 import static com.bueno.domain.usecases.intel.converters.IntelConverter.fromDto;
 
 public class BotUseCase {
+    //Bots playing against users decide while the user request waits, so their decisions are bounded by default.
+    //The deadline tracks late decisions per bot instance and each game keeps its own instance, so sharing the
+    //deadline does not make a late bot in one game fall back in the others.
+    public static final DecisionDeadline USER_GAME_DEADLINE = new DecisionDeadline(Duration.ofSeconds(2));
+    //Shared by the use cases that make bots play, so each game keeps a single instance of its bot.
+    private static final GameBots GAME_BOTS = new GameBots(1024, BotServiceManager::load);
+
     private final GameRepository gameRepo;
     private final GameResultRepository gameResultRepo;
     private final HandResultRepository handResultRepo;
-    private MaoDeOnzeHandler maoDeOnzeHandler;
-    private RaiseHandler raiseHandler;
-    private CardPlayingHandler cardHandler;
-    private RaiseRequestHandler requestHandler;
+    private final MaoDeOnzeHandler maoDeOnzeHandler;
+    private final RaiseHandler raiseHandler;
+    private final CardPlayingHandler cardHandler;
+    private final RaiseRequestHandler requestHandler;
+    private final DecisionDeadline deadline;
+    private PlayCardUseCase cardUseCase;
+    private PointsProposalUseCase scoreUseCase;
 
     public BotUseCase(GameRepository gameRepo) {
         this(gameRepo, null, null, null, null, null, null);
     }
 
     public BotUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo, HandResultRepository handResultRepo) {
-        this(gameRepo, gameResultRepo, handResultRepo, null, null, null, null);
+        this(gameRepo, gameResultRepo, handResultRepo, USER_GAME_DEADLINE);
+    }
+
+    //A null deadline means that decisions are not bounded.
+    public BotUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo, HandResultRepository handResultRepo,
+                      DecisionDeadline deadline) {
+        this(gameRepo, gameResultRepo, handResultRepo, null, null, null, null, deadline);
     }
 
     BotUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo,
                HandResultRepository handResultRepo, MaoDeOnzeHandler maoDeOnze,
                RaiseHandler raise, CardPlayingHandler card, RaiseRequestHandler request){
+        this(gameRepo, gameResultRepo, handResultRepo, maoDeOnze, raise, card, request, USER_GAME_DEADLINE);
+    }
+
+    BotUseCase(GameRepository gameRepo, GameResultRepository gameResultRepo,
+               HandResultRepository handResultRepo, MaoDeOnzeHandler maoDeOnze,
+               RaiseHandler raise, CardPlayingHandler card, RaiseRequestHandler request, DecisionDeadline deadline){
         this.gameRepo = Objects.requireNonNull(gameRepo);
         this.gameResultRepo = gameResultRepo;
         this.handResultRepo = handResultRepo;
@@ -67,55 +95,86 @@ public class BotUseCase {
         this.raiseHandler = raise;
         this.cardHandler = card;
         this.requestHandler = request;
+        this.deadline = deadline;
     }
 
     public Intel playWhenNecessary(Game game) {
+        Player currentPlayer = game.currentHand().getCurrentPlayer();
+        Intel intel = game.getIntel();
+
+        while (isBotTurn(currentPlayer, intel)) {
+            intel = decide(game.getUuid(), currentPlayer, intel);
+            if (intel == null) return null;
+
+            final Optional<Game> updatedGame = findGameOf(currentPlayer);
+            if (updatedGame.isEmpty()) return intel;
+            currentPlayer = updatedGame.get().currentHand().getCurrentPlayer();
+        }
+        return intel;
+    }
+
+    public Optional<Intel> playNextDecision(Game game) {
         final Player currentPlayer = game.currentHand().getCurrentPlayer();
         final Intel intel = game.getIntel();
+        if (!isBotTurn(currentPlayer, intel)) return Optional.empty();
+        return Optional.ofNullable(decide(game.getUuid(), currentPlayer, intel));
+    }
 
-        if (!isBotTurn(currentPlayer, intel)) return intel;
+    private Intel decide(UUID gameUuid, Player bot, Intel intel) {
+        final Intel decided = decide(GAME_BOTS.botOf(gameUuid, bot.getUsername()), bot, intel);
+        if (decided != null && decided.isGameDone()) GAME_BOTS.forget(gameUuid);
+        return decided;
+    }
 
-        initializeNullHandlers(BotServiceManager.load(currentPlayer.getUsername()));
+    private Intel decide(BotServiceProvider loadedService, Player bot, Intel intel) {
+        final BotServiceProvider botService = deadline == null ? loadedService : deadline.enforceOn(loadedService);
+        final GameIntel botIntel = toGameIntel(bot, intel);
 
-        if (maoDeOnzeHandler.shouldHandle(intel))
-            return fromDto(maoDeOnzeHandler.handle(intel, currentPlayer));
+        final MaoDeOnzeHandler maoDeOnze = maoDeOnzeHandler != null ? maoDeOnzeHandler
+                : new MaoDeOnzeHandler(scoreUseCase(), botService);
+        if (maoDeOnze.shouldHandle(intel))
+            return fromDto(maoDeOnze.handle(intel, bot, botIntel));
 
-        if (raiseHandler.shouldHandle(intel)) {
-            final IntelDto dto = raiseHandler.handle(intel, currentPlayer);
+        final RaiseHandler raise = raiseHandler != null ? raiseHandler
+                : new RaiseHandler(scoreUseCase(), botService);
+        if (raise.shouldHandle(intel)) {
+            final IntelDto dto = raise.handle(intel, bot, botIntel);
             if(dto != null ) return fromDto(dto);
         }
 
-        if (cardHandler.shouldHandle(intel))
-            return fromDto(cardHandler.handle(intel, currentPlayer));
+        final CardPlayingHandler card = cardHandler != null ? cardHandler
+                : new CardPlayingHandler(cardUseCase(), botService);
+        if (card.shouldHandle(intel))
+            return fromDto(card.handle(intel, bot, botIntel));
 
-        if (requestHandler.shouldHandle(intel))
-            return fromDto(requestHandler.handle(intel, currentPlayer));
+        final RaiseRequestHandler request = requestHandler != null ? requestHandler
+                : new RaiseRequestHandler(scoreUseCase(), botService);
+        if (request.shouldHandle(intel))
+            return fromDto(request.handle(intel, bot, botIntel));
 
         return null;
     }
 
+    private Optional<Game> findGameOf(Player player) {
+        return gameRepo.findByPlayerUuid(player.getUuid()).map(GameConverter::fromDto);
+    }
+
     private boolean isBotTurn(Player handPlayer, Intel intel) {
+        if (handPlayer == null) return false;
         final var currentPlayerUUID = intel.currentPlayerUuid();
         if (currentPlayerUUID.isEmpty() || intel.isGameDone() || !handPlayer.isBot()) return false;
         return handPlayer.getUuid().equals(currentPlayerUUID.get());
     }
 
-    private void initializeNullHandlers(BotServiceProvider botService) {
-        if (maoDeOnzeHandler == null)
-            maoDeOnzeHandler = new MaoDeOnzeHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (raiseHandler == null)
-            raiseHandler = new RaiseHandler(
-                    new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (cardHandler == null)
-            cardHandler = new CardPlayingHandler(
-                    new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo),
-                    botService);
-        if (requestHandler == null)
-            requestHandler = new RaiseRequestHandler(new PointsProposalUseCase(
-                    gameRepo, gameResultRepo, handResultRepo),
-                    botService);
+    private PlayCardUseCase cardUseCase() {
+        if (cardUseCase == null)
+            cardUseCase = new PlayCardUseCase(gameRepo, gameResultRepo, handResultRepo, null);
+        return cardUseCase;
+    }
+
+    private PointsProposalUseCase scoreUseCase() {
+        if (scoreUseCase == null)
+            scoreUseCase = new PointsProposalUseCase(gameRepo, gameResultRepo, handResultRepo, null);
+        return scoreUseCase;
     }
 }
@@ -0,0 +1,288 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.OpponentAction;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.StatefulBotServiceProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+//Bounds the time bots take to decide. Each decision receives the time budget in its intel and runs in a worker
+//thread. If the bot does not decide in time, the decision is taken by the fallback bot, the late one is discarded,
+//and the timeout is counted for the bot. Late bots are interrupted, but a bot ignoring interruptions keeps its
+//worker busy until it returns, so workers are daemon threads created on demand instead of threads of a fixed pool.
+//While a late decision is still running, new decisions are taken by the fallback and counted as timeouts without
+//starting a worker, so a bot instance is never called by two threads. The scope says which decisions are affected.
+//With BOT_INSTANCE, only those of the late instance: games keep an instance of each bot, so a late bot in one game
+//does not affect the others, unless the bot is a singleton shared by all games, and a looping bot holds one worker
+//per game. With BOT_NAME, those of every instance of the bot, so a looping bot holds a single worker no matter how
+//many games it plays. Callbacks of stateful bots are also skipped while they are late.
+public final class DecisionDeadline {
+    public enum Scope {BOT_INSTANCE, BOT_NAME}
+
+    private static final ExecutorService WORKERS = Executors.newCachedThreadPool(new WorkerFactory());
+
+    private final Duration timeBudget;
+    private final BotServiceProvider fallback;
+    private final Scope scope;
+    private final Map<String, LongAdder> timeoutsByBot = new ConcurrentHashMap<>();
+    private final Map<Object, Call<?>> lateCalls = new ConcurrentHashMap<>();
+
+    public DecisionDeadline(Duration timeBudget) {
+        this(timeBudget, Scope.BOT_INSTANCE);
+    }
+
+    public DecisionDeadline(Duration timeBudget, Scope scope) {
+        this(timeBudget, new LowestCardFallback(), scope);
+    }
+
+    public DecisionDeadline(Duration timeBudget, BotServiceProvider fallback) {
+        this(timeBudget, fallback, Scope.BOT_INSTANCE);
+    }
+
+    public DecisionDeadline(Duration timeBudget, BotServiceProvider fallback, Scope scope) {
+        Objects.requireNonNull(timeBudget, "Time budget must not be null!");
+        if (timeBudget.isNegative() || timeBudget.isZero())
+            throw new IllegalArgumentException("Time budget must be positive: " + timeBudget);
+        this.timeBudget = timeBudget;
+        this.fallback = Objects.requireNonNull(fallback, "Fallback bot must not be null!");
+        this.scope = Objects.requireNonNull(scope, "Scope must not be null!");
+    }
+
+    public BotServiceProvider enforceOn(BotServiceProvider bot) {
+        Objects.requireNonNull(bot, "Bot must not be null!");
+        if (bot instanceof StatefulBotServiceProvider stateful) return new TimedStatefulBotService(stateful);
+        return new TimedBotService(bot);
+    }
+
+    public Duration getTimeBudget() {
+        return timeBudget;
+    }
+
+    public long getTimeouts(String botName) {
+        final LongAdder timeouts = timeoutsByBot.get(botName);
+        return timeouts == null ? 0 : timeouts.sum();
+    }
+
+    private <T> T decide(TimedBotService timedBot, GameIntel intel, Function<GameIntel, T> decision,
+                         Function<GameIntel, T> fallbackDecision) {
+        final String botName = timedBot.bot.getName();
+        if (timedBot.isLate()) return timeOut(botName, intel, fallbackDecision);
+
+        final GameIntel timedIntel = intel.withTimeBudget(timeBudget);
+        final Call<T> call = new Call<>(timedBot.lateCallKey, () -> decision.apply(timedIntel));
+        final Future<T> future = WORKERS.submit(call);
+        try {
+            return future.get(timeBudget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            lateCalls.put(timedBot.lateCallKey, call);
+            if (!call.abandon()) lateCalls.remove(timedBot.lateCallKey, call);
+            return timeOut(botName, intel, fallbackDecision);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            if (e.getCause() instanceof Error cause) throw cause;
+            throw new IllegalStateException(botName + " failed to decide.", e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for " + botName + " to decide.", e);
+        }
+    }
+
+    private <T> T timeOut(String botName, GameIntel intel, Function<GameIntel, T> fallbackDecision) {
+        timeoutsByBot.computeIfAbsent(botName, name -> new LongAdder()).increment();
+        return fallbackDecision.apply(intel);
+    }
+
+    private class TimedBotService implements BotServiceProvider {
+        private final BotServiceProvider bot;
+        private final Object lateCallKey;
+
+        private TimedBotService(BotServiceProvider bot) {
+            this.bot = bot;
+            this.lateCallKey = scope == Scope.BOT_NAME ? bot.getName() : new Instance(bot);
+        }
+
+        boolean isLate() {
+            final Call<?> lateCall = lateCalls.get(lateCallKey);
+            return lateCall != null && lateCall.isRunning();
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return decide(this, intel, bot::getMaoDeOnzeResponse, fallback::getMaoDeOnzeResponse);
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            return decide(this, intel, bot::decideIfRaises, fallback::decideIfRaises);
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return decide(this, intel, bot::chooseCard, fallback::chooseCard);
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return decide(this, intel, bot::getRaiseResponse, fallback::getRaiseResponse);
+        }
+
+        @Override
+        public String getName() {
+            return bot.getName();
+        }
+    }
+
+    private final class TimedStatefulBotService extends TimedBotService implements StatefulBotServiceProvider {
+        private final StatefulBotServiceProvider bot;
+
+        private TimedStatefulBotService(StatefulBotServiceProvider bot) {
+            super(bot);
+            this.bot = bot;
+        }
+
+        private boolean isIdle() {
+            return !isLate();
+        }
+
+        @Override
+        public void onGameStart(String opponentName) {
+            if (isIdle()) bot.onGameStart(opponentName);
+        }
+
+        @Override
+        public void onHandStart(TrucoCard vira, List<TrucoCard> cards) {
+            if (isIdle()) bot.onHandStart(vira, cards);
+        }
+
+        @Override
+        public void onOpponentAction(OpponentAction action) {
+            if (isIdle()) bot.onOpponentAction(action);
+        }
+
+        @Override
+        public void onRoundResult(GameIntel.RoundResult result) {
+            if (isIdle()) bot.onRoundResult(result);
+        }
+
+        @Override
+        public void onHandEnd(int score, int opponentScore) {
+            if (isIdle()) bot.onHandEnd(score, opponentScore);
+        }
+    }
+
+    //Tells whether the bot is still running a decision, which the future of a cancelled decision does not tell, and
+    //stops tracking the bot as late when it returns.
+    private final class Call<T> implements Callable<T> {
+        private enum State {PENDING, RUNNING, RETURNED, ABANDONED}
+
+        private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+        private final Object key;
+        private final Callable<T> decision;
+
+        private Call(Object key, Callable<T> decision) {
+            this.key = key;
+            this.decision = decision;
+        }
+
+        private boolean isRunning() {
+            return state.get() == State.RUNNING;
+        }
+
+        @Override
+        public T call() throws Exception {
+            if (!state.compareAndSet(State.PENDING, State.RUNNING)) return null;
+            try {
+                return decision.call();
+            } finally {
+                state.set(State.RETURNED);
+                lateCalls.remove(key, this);
+            }
+        }
+
+        //Prevents the decision from starting if it has not started yet and tells whether the bot is still running it.
+        private boolean abandon() {
+            return !state.compareAndSet(State.PENDING, State.ABANDONED) && isRunning();
+        }
+    }
+
+    //Identifies a bot instance even if the bot overrides equals.
+    private record Instance(BotServiceProvider bot) {
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof Instance instance && instance.bot == bot;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(bot);
+        }
+    }
+
+    //Default fallback: plays the lowest card, never raises, and accepts both raises and mão de onze.
+    private static final class LowestCardFallback implements BotServiceProvider {
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return true;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            return CardToPlay.of(intel.getCardsSortedByValue().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 0;
+        }
+    }
+
+    private static final class WorkerFactory implements ThreadFactory {
+        private final AtomicInteger workers = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "bot-decision-" + workers.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.spi.service.BotServiceProvider;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+//Keeps the bot instance of each game against users between decisions, so the bot is loaded once per game, as
+//BotLifecycle describes, instead of once per decision. Games left unfinished are never forgotten otherwise, so the
+//games not played for the longest time are dropped when there are too many. A dropped game that goes on just loads
+//its bot again.
+final class GameBots {
+    private record Key(UUID gameUuid, String botName) {}
+
+    private final Function<String, BotServiceProvider> loader;
+    private final Map<Key, BotServiceProvider> bots;
+
+    GameBots(int capacity, Function<String, BotServiceProvider> loader) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        this.loader = Objects.requireNonNull(loader, "Loader must not be null!");
+        this.bots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, BotServiceProvider> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized BotServiceProvider botOf(UUID gameUuid, String botName) {
+        return bots.computeIfAbsent(new Key(gameUuid, botName), key -> loader.apply(key.botName()));
+    }
+
+    synchronized void forget(UUID gameUuid) {
+        bots.keySet().removeIf(key -> Objects.equals(key.gameUuid(), gameUuid));
+    }
+}
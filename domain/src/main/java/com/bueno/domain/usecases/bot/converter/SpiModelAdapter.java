@@ -21,56 +21,75 @@
 package com.bueno.domain.usecases.bot.converter;
 
 import com.bueno.domain.entities.deck.Card;
-import com.bueno.domain.entities.deck.Rank;
-import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
-import com.bueno.spi.model.CardRank;
-import com.bueno.spi.model.CardSuit;
 import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.model.GameIntel.RoundResult;
 import com.bueno.spi.model.TrucoCard;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
+//Converts between domain and SPI models. Cards of both models share the dense indexes of CardValues, so they are
+//converted by array lookups. Lists are filled in arrays and copied once by List.of, whose immutable lists GameIntel
+//keeps without copying them again.
 public class SpiModelAdapter {
 
-    public static GameIntel toGameIntel(Player player, Intel intel) {
-        final Function<UUID, RoundResult> toRoundResult = uuid -> uuid == null ? RoundResult.DREW
-                : uuid.equals(player.getUuid()) ? RoundResult.WON : RoundResult.LOST;
-
-        final List<RoundResult> roundResults = intel.roundWinnersUuid().stream()
-                .map(winner -> winner.orElse(null))
-                .map(toRoundResult).collect(Collectors.toList());
-
-        final Function<List<Card>, List<TrucoCard>> toTrucoCardList = cardList ->
-                cardList.stream().map(SpiModelAdapter::toTrucoCard).collect(Collectors.toList());
+    private static final RoundResult[] NO_ROUND_RESULTS = new RoundResult[0];
 
-        final List<TrucoCard> openCards = toTrucoCardList.apply(intel.openCards());
-        final List<TrucoCard> botCards = toTrucoCardList.apply(player.getCards());
+    public static GameIntel toGameIntel(Player player, Intel intel) {
+        final List<Optional<UUID>> roundWinners = intel.roundWinnersUuid();
+        final int roundsPlayed = roundWinners.size();
+        final RoundResult[] roundResults = roundsPlayed == 0 ? NO_ROUND_RESULTS : new RoundResult[roundsPlayed];
+        for (int round = 0; round < roundsPlayed; round++) {
+            final UUID winner = roundWinners.get(round).orElse(null);
+            roundResults[round] = winner == null ? RoundResult.DREW
+                    : winner.equals(player.getUuid()) ? RoundResult.WON : RoundResult.LOST;
+        }
 
         return GameIntel.StepBuilder.with()
-                .gameInfo(roundResults, openCards, toTrucoCard(intel.vira()), intel.handPoints())
-                .botInfo(botCards, intel.currentPlayerScore())
+                .gameInfo(List.of(roundResults), toTrucoCards(intel.openCards()), toTrucoCard(intel.vira()),
+                        intel.handPoints())
+                .botInfo(toTrucoCards(player.getCards()), intel.currentPlayerScore())
                 .opponentScore(intel.currentOpponentScore())
                 .opponentCard(toTrucoCard(intel.cardToPlayAgainst().orElse(null)))
                 .build();
     }
 
+    public static GameIntel toGameIntel(Player player, Hand hand) {
+        final int roundsPlayed = hand.numberOfRoundsPlayed();
+        final RoundResult[] roundResults = roundsPlayed == 0 ? NO_ROUND_RESULTS : new RoundResult[roundsPlayed];
+        for (int round = 0; round < roundsPlayed; round++) {
+            final Player winner = hand.getRoundPlayed(round).getWinner().orElse(null);
+            roundResults[round] = winner == null ? RoundResult.DREW
+                    : winner.equals(player) ? RoundResult.WON : RoundResult.LOST;
+        }
+
+        return GameIntel.StepBuilder.with()
+                .gameInfo(List.of(roundResults), toTrucoCards(hand.getOpenCards()), toTrucoCard(hand.getVira()),
+                        hand.getPoints().get())
+                .botInfo(toTrucoCards(player.getCards()), player.getScore())
+                .opponentScore(hand.getOpponentOf(player).getScore())
+                .opponentCard(toTrucoCard(hand.getCardToPlayAgainst().orElse(null)))
+                .build();
+    }
+
     public static Card toCard(TrucoCard card){
         if(card == null) return null;
-        final String rankName = card.getRank().toString();
-        final String suitName = card.getSuit().toString();
-        return Card.of(Rank.ofSymbol(rankName), Suit.ofSymbol(suitName));
+        return Card.ofIndex(card.index());
     }
 
-    private static TrucoCard toTrucoCard(Card card){
+    public static TrucoCard toTrucoCard(Card card){
         if(card == null) return null;
-        final String rankName = card.getRank().toString();
-        final String suitName = card.getSuit().toString();
-        return TrucoCard.of(CardRank.ofSymbol(rankName), CardSuit.ofSymbol(suitName));
+        return TrucoCard.ofIndex(card.index());
+    }
+
+    public static List<TrucoCard> toTrucoCards(List<Card> cards) {
+        final int numberOfCards = cards.size();
+        final TrucoCard[] trucoCards = new TrucoCard[numberOfCards];
+        for (int i = 0; i < numberOfCards; i++) trucoCards[i] = toTrucoCard(cards.get(i));
+        return List.of(trucoCards);
     }
 }
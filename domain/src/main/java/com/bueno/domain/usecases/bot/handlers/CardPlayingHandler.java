@@ -21,17 +21,16 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
 import com.bueno.domain.usecases.hand.dtos.PlayCardDto;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
 
 import static com.bueno.domain.entities.intel.PossibleAction.PLAY;
 import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toCard;
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class CardPlayingHandler implements Handler{
 
@@ -44,9 +43,9 @@ public class CardPlayingHandler implements Handler{
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
+    public IntelDto handle(Intel intel, Player bot, GameIntel botIntel) {
         final var botUuid = bot.getUuid();
-        final var chosenCard = botService.chooseCard(toGameIntel(bot, intel));
+        final var chosenCard = botService.chooseCard(botIntel);
         final var card = toCard(chosenCard.content());
         final var requestModel = new PlayCardDto(botUuid, CardConverter.toDto(card));
 
@@ -56,8 +55,6 @@ public class CardPlayingHandler implements Handler{
 
     @Override
     public boolean shouldHandle(Intel intel) {
-        return intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .anyMatch(action -> action.equals(PLAY));
+        return intel.possibleActions().contains(PLAY);
     }
 }
@@ -23,8 +23,16 @@ package com.bueno.domain.usecases.bot.handlers;
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
+
+import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 interface Handler {
-    IntelDto handle(Intel intel, Player bot);
+    default IntelDto handle(Intel intel, Player bot) {
+        return handle(intel, bot, toGameIntel(bot, intel));
+    }
+
+    //Handles the decision with the bot view of the intel, which is built once per decision and shared by the handlers.
+    IntelDto handle(Intel intel, Player bot, GameIntel botIntel);
     boolean shouldHandle(Intel intel);
 }
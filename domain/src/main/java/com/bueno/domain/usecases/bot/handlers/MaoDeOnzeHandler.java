@@ -25,9 +25,9 @@ import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
 
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class MaoDeOnzeHandler implements Handler {
 
@@ -40,9 +40,9 @@ public class MaoDeOnzeHandler implements Handler {
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
+    public IntelDto handle(Intel intel, Player bot, GameIntel botIntel) {
         final var botUuid = bot.getUuid();
-        final var hasAccepted = botService.getMaoDeOnzeResponse(toGameIntel(bot, intel));
+        final var hasAccepted = botService.getMaoDeOnzeResponse(botIntel);
         if (hasAccepted) return scoreUseCase.accept(botUuid);
         return scoreUseCase.quit(botUuid);
     }
@@ -21,18 +21,14 @@
 package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
-import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
 
-import java.util.EnumSet;
-import java.util.stream.Collectors;
-
 import static com.bueno.domain.entities.intel.PossibleAction.QUIT;
 import static com.bueno.domain.entities.intel.PossibleAction.RAISE;
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
 
 public class RaiseHandler implements Handler {
 
@@ -44,18 +40,16 @@ public class RaiseHandler implements Handler {
         this.botService = botService;
     }
 
-    public IntelDto handle(Intel intel, Player bot){
-        final boolean wantToRaise = botService.decideIfRaises(toGameIntel(bot, intel));
+    @Override
+    public IntelDto handle(Intel intel, Player bot, GameIntel botIntel) {
+        final boolean wantToRaise = botService.decideIfRaises(botIntel);
         if (wantToRaise) return scoreUseCase.raise(bot.getUuid());
         return null;
     }
 
     @Override
     public boolean shouldHandle(Intel intel){
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
-
+        final var actions = intel.possibleActions();
         return actions.contains(RAISE) && !actions.contains(QUIT);
     }
 }
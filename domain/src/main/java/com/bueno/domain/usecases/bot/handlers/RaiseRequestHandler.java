@@ -22,16 +22,13 @@ package com.bueno.domain.usecases.bot.handlers;
 
 import com.bueno.domain.entities.intel.Intel;
 import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.intel.PossibleActions;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.spi.model.GameIntel;
 import com.bueno.spi.service.BotServiceProvider;
 
-import java.util.EnumSet;
-import java.util.stream.Collectors;
-
-import static com.bueno.domain.usecases.bot.converter.SpiModelAdapter.toGameIntel;
-
 public class RaiseRequestHandler implements Handler{
 
     private final BotServiceProvider botService;
@@ -43,13 +40,11 @@ public class RaiseRequestHandler implements Handler{
     }
 
     @Override
-    public IntelDto handle(Intel intel, Player bot) {
+    public IntelDto handle(Intel intel, Player bot, GameIntel botIntel) {
         final var botUuid = bot.getUuid();
-        final var actions = intel.possibleActions().stream()
-                .map(PossibleAction::valueOf)
-                .collect(Collectors.toCollection(() -> EnumSet.noneOf(PossibleAction.class)));
+        final var actions = intel.possibleActions();
 
-        var response = botService.getRaiseResponse(toGameIntel(bot, intel));
+        var response = botService.getRaiseResponse(botIntel);
         if(isInvalid(response)) throw new IllegalStateException("response must be -1, 0, 1 but was: " + response);
         if(hasAlreadyReachedHandPointsLimit(actions, response)) response = 0;
 
@@ -65,11 +60,11 @@ public class RaiseRequestHandler implements Handler{
         return response < -1 || response > 1;
     }
 
-    private static boolean hasAlreadyReachedHandPointsLimit(EnumSet<PossibleAction> actions, int response) {
+    private static boolean hasAlreadyReachedHandPointsLimit(PossibleActions actions, int response) {
         return response == 1 && !actions.contains(PossibleAction.RAISE);
     }
 
     public boolean shouldHandle(Intel intel){
-        return !intel.isMaoDeOnze() && !intel.possibleActions().contains("PLAY");
+        return !intel.isMaoDeOnze() && !intel.possibleActions().contains(PossibleAction.PLAY);
     }
 }
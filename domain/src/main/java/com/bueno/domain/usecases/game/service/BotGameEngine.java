@@ -0,0 +1,236 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.hand.Round;
+import com.bueno.domain.entities.intel.PossibleActions;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.DecisionDeadline;
+import com.bueno.domain.usecases.bot.converter.SpiModelAdapter;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.OpponentAction;
+import com.bueno.spi.service.BotServiceManager;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.StatefulBotServiceProvider;
+
+import java.util.Objects;
+
+import static com.bueno.domain.entities.intel.PossibleAction.*;
+
+// Plays a bot versus bot game directly over the Game and Hand entities. It follows the same decision order of the
+// BotUseCase handlers (mão de onze, raise, card, raise response) and the same hand result handling of the use cases,
+// but does not convert the game to DTOs nor use a repository between decisions.
+// Each bot instance is kept for the whole game. Stateful bots are also told what changed between their decisions:
+// the start and end of the hands, the actions of the opponent, and the round results. If a decision deadline is
+// given, decisions are bounded by it, while the notifications are still delivered in the engine thread and skipped
+// while a late decision of the bot is still running.
+public class BotGameEngine {
+
+    private final Game game;
+    private final BotServiceProvider player1Service;
+    private final BotServiceProvider player2Service;
+    private final StatefulBotServiceProvider player1Listener;
+    private final StatefulBotServiceProvider player2Listener;
+    private Hand notifiedHand;
+    private int notifiedRounds;
+
+    public BotGameEngine(Game game) {
+        this(game, (DecisionDeadline) null);
+    }
+
+    //A null deadline means that decisions are not bounded.
+    public BotGameEngine(Game game, DecisionDeadline deadline) {
+        this(game, loadBotService(Objects.requireNonNull(game, "Game must not be null!").getPlayer1()),
+                loadBotService(game.getPlayer2()), deadline);
+    }
+
+    public BotGameEngine(Game game, BotServiceProvider player1Service, BotServiceProvider player2Service) {
+        this(game, player1Service, player2Service, null);
+    }
+
+    public BotGameEngine(Game game, BotServiceProvider player1Service, BotServiceProvider player2Service,
+                         DecisionDeadline deadline) {
+        this.game = Objects.requireNonNull(game, "Game must not be null!");
+        Objects.requireNonNull(player1Service, "Player 1 service must not be null!");
+        Objects.requireNonNull(player2Service, "Player 2 service must not be null!");
+        this.player1Service = deadline == null ? player1Service : deadline.enforceOn(player1Service);
+        this.player2Service = deadline == null ? player2Service : deadline.enforceOn(player2Service);
+        this.player1Listener = this.player1Service instanceof StatefulBotServiceProvider stateful ? stateful : null;
+        this.player2Listener = this.player2Service instanceof StatefulBotServiceProvider stateful ? stateful : null;
+    }
+
+    private static BotServiceProvider loadBotService(Player player) {
+        if (!player.isBot()) throw new IllegalArgumentException(player.getUsername() + " is not a bot.");
+        return BotServiceManager.load(player.getUsername());
+    }
+
+    public Player playToEnd() {
+        while (!game.isDone()) playNextDecision();
+        return game.getWinner().orElseThrow();
+    }
+
+    public void playNextDecision() {
+        if (game.isDone()) throw new IllegalStateException("Game is over.");
+
+        final Hand hand = game.currentHand();
+        final Player bot = hand.getCurrentPlayer();
+        if (bot == null) throw new IllegalStateException("There is no player to make a decision.");
+
+        if (hand != notifiedHand) notifyHandStart(hand);
+
+        final BotServiceProvider botService = bot.equals(game.getPlayer1()) ? player1Service : player2Service;
+        final GameIntel intel = SpiModelAdapter.toGameIntel(bot, hand);
+        final PossibleActions actions = hand.getPossibleActions();
+
+        if (isWaitingMaoDeOnzeDecision(hand)) {
+            if (botService.getMaoDeOnzeResponse(intel)) accept(hand, bot);
+            else quit(hand, bot);
+            return;
+        }
+
+        if (actions.contains(RAISE) && !actions.contains(QUIT) && botService.decideIfRaises(intel)) {
+            raise(hand, bot);
+            return;
+        }
+
+        if (actions.contains(PLAY)) {
+            playCard(hand, bot, botService.chooseCard(intel));
+            return;
+        }
+
+        if (!hand.isMaoDeOnze()) {
+            respondToRaise(hand, bot, botService.getRaiseResponse(intel), actions);
+            return;
+        }
+
+        throw new IllegalStateException("No bot decision available in hand state " + hand.getState().className());
+    }
+
+    private boolean isWaitingMaoDeOnzeDecision(Hand hand) {
+        return hand.isMaoDeOnze() && hand.getPoints() == HandPoints.ONE;
+    }
+
+    private void playCard(Hand hand, Player bot, CardToPlay chosenCard) {
+        final Card card = SpiModelAdapter.toCard(chosenCard.content());
+        final Card playedCard = chosenCard.isDiscard() ? bot.discard(card) : bot.play(card);
+
+        if (hand.getCardToPlayAgainst().isEmpty()) hand.playFirstCard(bot, playedCard);
+        else hand.playSecondCard(bot, playedCard);
+
+        final int points = hand.getPoints().get();
+        notifyOpponentOf(bot, chosenCard.isDiscard() ? OpponentAction.discarded(points)
+                : OpponentAction.played(SpiModelAdapter.toTrucoCard(playedCard), points));
+        updateGameStatus();
+    }
+
+    private void respondToRaise(Hand hand, Player bot, int response, PossibleActions actions) {
+        if (response < -1 || response > 1)
+            throw new IllegalStateException("response must be -1, 0, 1 but was: " + response);
+        if (response == 1 && !actions.contains(RAISE)) response = 0;
+
+        switch (response) {
+            case -1 -> quit(hand, bot);
+            case 0 -> accept(hand, bot);
+            case 1 -> raise(hand, bot);
+        }
+    }
+
+    private void accept(Hand hand, Player bot) {
+        hand.accept(bot);
+        notifyOpponentOf(bot, OpponentAction.accepted(hand.getPoints().get()));
+    }
+
+    private void raise(Hand hand, Player bot) {
+        hand.raise(bot);
+        notifyOpponentOf(bot, OpponentAction.raised(hand.getPointsProposal().get()));
+    }
+
+    private void quit(Hand hand, Player bot) {
+        final int points = hand.getPoints().get();
+        hand.quit(bot);
+        notifyOpponentOf(bot, OpponentAction.quit(points));
+        updateGameStatus();
+    }
+
+    private void updateGameStatus() {
+        final Hand hand = game.currentHand();
+        notifyRoundResults(hand);
+        if (hand.getResult().isEmpty()) return;
+        game.updateScores();
+        notifyHandEnd();
+        if (!game.isDone()) game.prepareNewHand();
+    }
+
+    private void notifyHandStart(Hand hand) {
+        if (notifiedHand == null) {
+            if (player1Listener != null) player1Listener.onGameStart(game.getPlayer2().getUsername());
+            if (player2Listener != null) player2Listener.onGameStart(game.getPlayer1().getUsername());
+        }
+        notifiedHand = hand;
+        notifiedRounds = 0;
+        if (player1Listener != null) notifyHandStart(player1Listener, hand, game.getPlayer1());
+        if (player2Listener != null) notifyHandStart(player2Listener, hand, game.getPlayer2());
+    }
+
+    private void notifyHandStart(StatefulBotServiceProvider listener, Hand hand, Player player) {
+        listener.onHandStart(SpiModelAdapter.toTrucoCard(hand.getVira()), SpiModelAdapter.toTrucoCards(player.getCards()));
+    }
+
+    private void notifyOpponentOf(Player bot, OpponentAction action) {
+        final StatefulBotServiceProvider opponentListener = bot.equals(game.getPlayer1()) ? player2Listener : player1Listener;
+        if (opponentListener != null) opponentListener.onOpponentAction(action);
+    }
+
+    private void notifyRoundResults(Hand hand) {
+        final int roundsPlayed = hand.numberOfRoundsPlayed();
+        if (player1Listener == null && player2Listener == null) {
+            notifiedRounds = roundsPlayed;
+            return;
+        }
+        for (; notifiedRounds < roundsPlayed; notifiedRounds++) {
+            final Round round = hand.getRoundPlayed(notifiedRounds);
+            if (player1Listener != null) player1Listener.onRoundResult(roundResultOf(round, game.getPlayer1()));
+            if (player2Listener != null) player2Listener.onRoundResult(roundResultOf(round, game.getPlayer2()));
+        }
+    }
+
+    private GameIntel.RoundResult roundResultOf(Round round, Player player) {
+        return round.getWinner()
+                .map(winner -> winner.equals(player) ? GameIntel.RoundResult.WON : GameIntel.RoundResult.LOST)
+                .orElse(GameIntel.RoundResult.DREW);
+    }
+
+    private void notifyHandEnd() {
+        final int player1Score = game.getPlayer1().getScore();
+        final int player2Score = game.getPlayer2().getScore();
+        if (player1Listener != null) player1Listener.onHandEnd(player1Score, player2Score);
+        if (player2Listener != null) player2Listener.onHandEnd(player2Score, player1Score);
+    }
+
+    public Game getGame() {
+        return game;
+    }
+}
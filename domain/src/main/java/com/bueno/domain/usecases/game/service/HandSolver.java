@@ -0,0 +1,221 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.hand.Hand;
+
+import java.util.List;
+import java.util.Objects;
+
+// Solves hands with perfect information, i.e., as if both players could see all the dealt cards. The value of a hand
+// is the number of points the first to play scores if both players play optimally, which is negative if the last to
+// play wins it. By default only the card play is solved, including discards, so the value is -1, 0 or 1. Given the
+// maximum hand points, raises and their responses are solved too.
+//
+// Only the relative value of a card matters to the outcome of a round, so positions are encoded by the card values
+// instead of the cards themselves. The same position happens in many deals, so a solver reuses its transposition table
+// among the hands it solves. A solver is not thread safe; use one per thread.
+public class HandSolver {
+
+    private static final int EMPTY = 15;
+    private static final int CLOSED = 0;
+    private static final int NO_ROUND = 3;
+    private static final int DRAW = 2;
+    private static final int NO_PROPOSAL = 7;
+    private static final int NO_RAISER = 3;
+    private static final int[] LEVEL_POINTS = {1, 3, 6, 9, 12};
+
+    //Layout of the position encoded in a long: the cards of each player, the card to play against, the result of the
+    //first two rounds, the number of rounds played, the player who leads the round and the state of the bet.
+    private static final int FIRST_CARDS = 0;
+    private static final int LAST_CARDS = 12;
+    private static final int TABLE_CARD = 24;
+    private static final int FIRST_ROUND = 28;
+    private static final int SECOND_ROUND = 30;
+    private static final int ROUNDS_PLAYED = 32;
+    private static final int LEADER = 34;
+    private static final int LEVEL = 35;
+    private static final int PROPOSAL = 38;
+    private static final int RAISER = 41;
+    private static final int MAX_LEVEL = 43;
+    private static final long STORED = 1L << 63;
+
+    private final long[] keys;
+    private final byte[] values;
+    private final int indexShift;
+
+    public HandSolver() {
+        this(18);
+    }
+
+    public HandSolver(int transpositionTableBits) {
+        if (transpositionTableBits < 1 || transpositionTableBits > 30)
+            throw new IllegalArgumentException("Transposition table bits must be between 1 and 30.");
+        keys = new long[1 << transpositionTableBits];
+        values = new byte[1 << transpositionTableBits];
+        indexShift = Long.SIZE - transpositionTableBits;
+    }
+
+    public int solve(Hand hand) {
+        final List<Card> dealtCards = Objects.requireNonNull(hand, "Hand must not be null!").getDealtCards();
+        if (dealtCards.size() != 7) throw new IllegalArgumentException("Hand must have been dealt three cards per player.");
+        return solve(dealtCards.get(0), dealtCards.subList(1, 4), dealtCards.subList(4, 7));
+    }
+
+    public int solve(Card vira, List<Card> firstToPlayCards, List<Card> lastToPlayCards) {
+        return solve(vira, firstToPlayCards, lastToPlayCards, 1);
+    }
+
+    public int solve(Card vira, List<Card> firstToPlayCards, List<Card> lastToPlayCards, int maxHandPoints) {
+        Objects.requireNonNull(vira, "Vira must not be null!");
+        if (maxHandPoints < 1) throw new IllegalArgumentException("Max hand points must be positive.");
+        int maxLevel = 0;
+        while (maxLevel + 1 < LEVEL_POINTS.length && LEVEL_POINTS[maxLevel + 1] <= maxHandPoints) maxLevel++;
+
+        long position = with(0L, FIRST_CARDS, 12, cardsOf(vira, firstToPlayCards));
+        position = with(position, LAST_CARDS, 12, cardsOf(vira, lastToPlayCards));
+        position = with(position, TABLE_CARD, 4, EMPTY);
+        position = with(position, FIRST_ROUND, 2, NO_ROUND);
+        position = with(position, SECOND_ROUND, 2, NO_ROUND);
+        position = with(position, PROPOSAL, 3, NO_PROPOSAL);
+        position = with(position, RAISER, 2, NO_RAISER);
+        position = with(position, MAX_LEVEL, 3, maxLevel);
+        return search(position);
+    }
+
+    //Cards are kept as their relative values plus one, so that zero represents a discarded card.
+    private static int cardsOf(Card vira, List<Card> cards) {
+        Objects.requireNonNull(cards, "Cards must not be null!");
+        if (cards.size() != 3) throw new IllegalArgumentException("Each player must have three cards.");
+        return sorted(cards.get(0).getRelativeValue(vira) + 1, cards.get(1).getRelativeValue(vira) + 1,
+                cards.get(2).getRelativeValue(vira) + 1);
+    }
+
+    private int search(long position) {
+        final int index = (int) ((position * 0x9E3779B97F4A7C15L) >>> indexShift);
+        if (keys[index] == (position | STORED)) return values[index];
+        final int value = evaluate(position);
+        keys[index] = position | STORED;
+        values[index] = (byte) value;
+        return value;
+    }
+
+    private int evaluate(long position) {
+        final int level = get(position, LEVEL, 3);
+        final int proposal = get(position, PROPOSAL, 3);
+        final int raiser = get(position, RAISER, 2);
+        final int maxLevel = get(position, MAX_LEVEL, 3);
+
+        if (proposal != NO_PROPOSAL) {
+            final int responder = 1 - raiser;
+            final int quitValue = raiser == 0 ? LEVEL_POINTS[level] : -LEVEL_POINTS[level];
+            int best = best(responder, quitValue, search(with(with(position, LEVEL, 3, proposal), PROPOSAL, 3, NO_PROPOSAL)));
+            if (proposal + 1 <= maxLevel) {
+                final long reRaised = with(with(with(position, LEVEL, 3, proposal), PROPOSAL, 3, proposal + 1), RAISER, 2, responder);
+                best = best(responder, best, search(reRaised));
+            }
+            return best;
+        }
+
+        final int leader = get(position, LEADER, 1);
+        final int tableCard = get(position, TABLE_CARD, 4);
+        final int player = tableCard == EMPTY ? leader : 1 - leader;
+        int best = player == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE;
+
+        if (player != raiser && level + 1 <= maxLevel)
+            best = best(player, best, search(with(with(position, PROPOSAL, 3, level + 1), RAISER, 2, player)));
+
+        final int cardsShift = player == 0 ? FIRST_CARDS : LAST_CARDS;
+        final int cards = get(position, cardsShift, 12);
+        final boolean canDiscard = get(position, ROUNDS_PLAYED, 2) > 0;
+        int previousCard = -1;
+        for (int slot = 0; slot < 3; slot++) {
+            final int card = (cards >>> 4 * slot) & 0xF;
+            if (card == EMPTY || card == previousCard) continue;
+            previousCard = card;
+            final long played = with(position, cardsShift, 12, withoutSlot(cards, slot));
+            best = best(player, best, play(played, tableCard, leader, card));
+            if (canDiscard) best = best(player, best, play(played, tableCard, leader, CLOSED));
+        }
+        return best;
+    }
+
+    private int play(long position, int tableCard, int leader, int card) {
+        if (tableCard == EMPTY) return search(with(position, TABLE_CARD, 4, card));
+
+        final int roundResult = tableCard > card ? leader : tableCard < card ? 1 - leader : DRAW;
+        final int roundsPlayed = get(position, ROUNDS_PLAYED, 2) + 1;
+        final int points = LEVEL_POINTS[get(position, LEVEL, 3)];
+
+        if (roundsPlayed == 2) {
+            final int firstRound = get(position, FIRST_ROUND, 2);
+            if (firstRound == DRAW && roundResult != DRAW) return valueOf(roundResult, points);
+            if (firstRound != DRAW && roundResult == DRAW) return valueOf(firstRound, points);
+            if (roundResult != DRAW && roundResult == firstRound) return valueOf(roundResult, points);
+        }
+        if (roundsPlayed == 3) {
+            final int firstRound = get(position, FIRST_ROUND, 2);
+            return valueOf(roundResult == DRAW && firstRound != DRAW ? firstRound : roundResult, points);
+        }
+
+        long next = with(position, TABLE_CARD, 4, EMPTY);
+        next = with(next, roundsPlayed == 1 ? FIRST_ROUND : SECOND_ROUND, 2, roundResult);
+        next = with(next, ROUNDS_PLAYED, 2, roundsPlayed);
+        if (roundResult != DRAW) next = with(next, LEADER, 1, roundResult);
+        return search(next);
+    }
+
+    private static int valueOf(int winner, int points) {
+        return winner == DRAW ? 0 : winner == 0 ? points : -points;
+    }
+
+    private static int best(int player, int value, int other) {
+        return player == 0 ? Math.max(value, other) : Math.min(value, other);
+    }
+
+    private static int withoutSlot(int cards, int slot) {
+        return switch (slot) {
+            case 0 -> sorted(cards >>> 4 & 0xF, cards >>> 8 & 0xF, EMPTY);
+            case 1 -> sorted(cards & 0xF, cards >>> 8 & 0xF, EMPTY);
+            default -> sorted(cards & 0xF, cards >>> 4 & 0xF, EMPTY);
+        };
+    }
+
+    private static int sorted(int a, int b, int c) {
+        final int low = Math.min(a, b);
+        final int high = Math.max(a, b);
+        final int middle = Math.max(low, Math.min(high, c));
+        final int lowest = Math.min(low, c);
+        final int highest = Math.max(high, c);
+        return lowest | middle << 4 | highest << 8;
+    }
+
+    private static int get(long position, int shift, int bits) {
+        return (int) (position >>> shift & ((1L << bits) - 1));
+    }
+
+    private static long with(long position, int shift, int bits, int value) {
+        final long mask = ((1L << bits) - 1) << shift;
+        return position & ~mask | ((long) value << shift) & mask;
+    }
+}
@@ -0,0 +1,46 @@
+package com.bueno.domain.usecases.game.service;
+
+//Sequential probability ratio test on the rate of games won by a bot against an opponent. After each batch of games,
+//it decides between "the bot wins at most (50% - margin) of the games" and "the bot wins at least (50% + margin) of
+//the games", with the given error rate for both wrong decisions. Lopsided matchups are settled after a few games,
+//while close matchups keep playing until the test or the game limit stops them.
+public class SequentialWinRateEvaluator {
+    private final double logLikelihoodRatioPerWin;
+    private final double acceptanceBound;
+
+    public enum Outcome {BETTER, WORSE, UNDECIDED}
+
+    public SequentialWinRateEvaluator(double errorRate, double margin) {
+        if (errorRate <= 0.0 || errorRate >= 0.5)
+            throw new IllegalArgumentException("Error rate must be greater than 0 and less than 0.5: " + errorRate);
+        if (margin <= 0.0 || margin >= 0.5)
+            throw new IllegalArgumentException("Margin must be greater than 0 and less than 0.5: " + margin);
+        this.logLikelihoodRatioPerWin = Math.log((0.5 + margin) / (0.5 - margin));
+        this.acceptanceBound = Math.log((1.0 - errorRate) / errorRate);
+    }
+
+    public Outcome decide(long wins, long games) {
+        //Hypotheses are symmetric around 50%, so each loss cancels the log likelihood ratio of a win.
+        final double logLikelihoodRatio = (2 * wins - games) * logLikelihoodRatioPerWin;
+        if (logLikelihoodRatio >= acceptanceBound) return Outcome.BETTER;
+        if (logLikelihoodRatio <= -acceptanceBound) return Outcome.WORSE;
+        return Outcome.UNDECIDED;
+    }
+
+    //Confidence that the bot with most wins is indeed the stronger one, using the normal approximation of the
+    //binomial distribution of wins in a matchup between bots of equal strength.
+    public static double confidence(long wins, long games) {
+        if (games == 0) return 0.5;
+        final double z = Math.abs(2.0 * wins - games) / Math.sqrt(games);
+        return standardNormalCdf(z);
+    }
+
+    private static double standardNormalCdf(double z) {
+        //Abramowitz and Stegun approximation 7.1.26 of the error function, with absolute error below 1.5e-7.
+        final double x = z / Math.sqrt(2.0);
+        final double t = 1.0 / (1.0 + 0.3275911 * x);
+        final double polynomial = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        final double erf = 1.0 - polynomial * Math.exp(-x * x);
+        return 0.5 * (1.0 + erf);
+    }
+}
@@ -0,0 +1,18 @@
+package com.bueno.domain.usecases.game.service;
+
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+//Builds version 4 UUIDs from the game random stream. Unlike UUID.randomUUID(), it does not go through the shared
+//SecureRandom, so it neither serializes simulation threads nor breaks the replay of seeded games.
+public final class SimulationIdGenerator {
+
+    private SimulationIdGenerator() {
+    }
+
+    public static UUID next(RandomGenerator random) {
+        final long mostSigBits = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+        final long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
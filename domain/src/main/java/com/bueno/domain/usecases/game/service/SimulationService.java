@@ -1,62 +1,205 @@
 package com.bueno.domain.usecases.game.service;
 
-import com.bueno.domain.usecases.bot.BotUseCase;
-import com.bueno.domain.usecases.game.converter.GameConverter;
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.DealSource;
+import com.bueno.domain.entities.deck.Deck;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.hand.Round;
+import com.bueno.domain.entities.intel.IntelHistoryPolicy;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.bot.DecisionDeadline;
 import com.bueno.domain.usecases.game.dtos.CreateForBotsDto;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
-import com.bueno.domain.usecases.game.repos.GameRepoDisposableImpl;
-import com.bueno.domain.usecases.game.repos.GameRepository;
-import com.bueno.domain.usecases.game.usecase.CreateGameUseCase;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.SplittableRandom;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
 public class SimulationService {
+   //Simulated games wait for no one, so the budget is generous: it only stops bots that loop or stall from holding a
+   //worker of the parallel streams. A late bot falls back in all its games, so it holds a single extra thread.
+   public static final DecisionDeadline SIMULATION_DEADLINE =
+           new DecisionDeadline(Duration.ofSeconds(1), DecisionDeadline.Scope.BOT_NAME);
+
+   //Each game owns its deck. A worker waiting for a bot that forks tasks may run another game in the meantime, so
+   //decks cannot be shared by the games of a thread. Solving a hand never waits for other tasks, so solvers can.
+   private static final ThreadLocal<HandSolver> SOLVERS = ThreadLocal.withInitial(HandSolver::new);
+
    private final UUID uuidBot1;
    private final String bot1Name;
    private final UUID uuidBot2;
    private final String bot2Name;
+   private final DecisionDeadline deadline;
 
     public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName) {
+        this(uuidBotToEvaluate, botToEvaluateName, challengedBotName, SIMULATION_DEADLINE);
+    }
+
+    //Bounds each decision by the deadline, so a slow bot cannot hold a worker of the parallel streams. A null
+    //deadline means that decisions are not bounded, which saves handing each decision to another thread.
+    public SimulationService(UUID uuidBotToEvaluate, String botToEvaluateName, String challengedBotName,
+                             DecisionDeadline deadline) {
         this.uuidBot1 = uuidBotToEvaluate;
         this.bot1Name = botToEvaluateName;
         this.uuidBot2 = UUID.randomUUID();;
         this.bot2Name = challengedBotName;
+        this.deadline = deadline;
     }
 
     public List<PlayWithBotsDto> runInParallel(int times) {
-        final Callable<PlayWithBotsDto> gameWaitingForBeCreatedAndPlayed = this::simulate;
-        return Stream.generate(() -> gameWaitingForBeCreatedAndPlayed)
-                .limit(times)
+        return runInParallel(times, ThreadLocalRandom.current().nextLong());
+    }
+
+    public List<PlayWithBotsDto> runInParallel(int times, long seed) {
+        return IntStream.range(0, times)
                 .parallel()
+                .mapToObj(gameIndex -> (Callable<PlayWithBotsDto>) () -> simulate(seed, gameIndex))
                 .map(executeGameCall())
                 .filter(Objects::nonNull)
                 .toList();
     }
 
-    private PlayWithBotsDto simulate(){
-        GameRepository gameRepository = new GameRepoDisposableImpl();
+    public SimulationStatistics aggregateInParallel(int times) {
+        return aggregateInParallel(times, ThreadLocalRandom.current().nextLong());
+    }
+
+    //Records each game as soon as it is over instead of collecting one result per game.
+    public SimulationStatistics aggregateInParallel(int times, long seed) {
+        final SimulationStatistics statistics = new SimulationStatistics();
+        IntStream.range(0, times).parallel().forEach(gameIndex -> playAndRecord(seed, gameIndex, statistics));
+        return statistics;
+    }
+
+    public void playAndRecord(long seed, int gameIndex, SimulationStatistics statistics) {
+        try {
+            statistics.record(play(seed, gameIndex));
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    //Besides the results of each game, records how far each bot has played from the perfect information value of
+    //every hand, except mão de onze hands, whose points are decided before the cards are played.
+    public SimulationStatistics aggregateAgainstOptimalInParallel(int times, long seed) {
+        final SimulationStatistics statistics = new SimulationStatistics();
+        IntStream.range(0, times).parallel().forEach(gameIndex -> playAndRecordAgainstOptimal(seed, gameIndex, statistics));
+        return statistics;
+    }
+
+    public void playAndRecordAgainstOptimal(long seed, int gameIndex, SimulationStatistics statistics) {
+        try {
+            final Game game = play(seed, gameIndex);
+            statistics.record(game);
+            recordSolvedHands(game, statistics);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    //Scores are not kept by hand, so the scores at the beginning of each hand are rebuilt from the previous results.
+    private static void recordSolvedHands(Game game, SimulationStatistics statistics) {
+        final HandSolver solver = SOLVERS.get();
+        final Player player1 = game.getPlayer1();
+        int player1Score = 0;
+        int player2Score = 0;
+        for (Hand hand : game.getHands()) {
+            final List<Round> rounds = hand.getRoundsPlayed();
+            final Player firstToPlay = rounds.isEmpty() ? hand.getFirstToPlay() : rounds.get(0).getFirstToPlay();
+            final Player lastToPlay = hand.getOpponentOf(firstToPlay);
+            final HandResult result = hand.getResult().orElseThrow();
+            final int points = result.getPoints().get();
+            final int scoredPoints = result.getWinner().map(winner -> winner.equals(firstToPlay) ? points : -points).orElse(0);
+
+            final boolean isMaoDeOnze = player1Score == 11 ^ player2Score == 11;
+            if (!isMaoDeOnze) {
+                final List<Card> dealtCards = hand.getDealtCards();
+                final int maxHandPoints = Hand.maxHandPoints(player1Score, player2Score);
+                final int solvedPoints = solver.solve(dealtCards.get(0), dealtCards.subList(1, 4), dealtCards.subList(4, 7), maxHandPoints);
+                statistics.recordSolvedHand(firstToPlay, lastToPlay, solvedPoints, scoredPoints);
+            }
+
+            if (result.getWinner().filter(player1::equals).isPresent()) player1Score = Math.min(Player.MAX_SCORE, player1Score + points);
+            else if (result.getWinner().isPresent()) player2Score = Math.min(Player.MAX_SCORE, player2Score + points);
+        }
+    }
+
+    public SimulationStatistics aggregateDuplicateInParallel(int numberOfDeals, long seed) {
+        final SimulationStatistics statistics = new SimulationStatistics();
+        IntStream.range(0, numberOfDeals).parallel().forEach(dealIndex -> playDuplicateAndRecord(seed, dealIndex, statistics));
+        return statistics;
+    }
+
+    //Plays the same sequence of deals twice, swapping the seats of the bots in the second game. Since the first to
+    //play alternates in the same way in both games, each bot receives in one game the cards its opponent received in
+    //the other one, and the luck of the deal cancels out in the paired results.
+    public void playDuplicateAndRecord(long seed, int dealIndex, SimulationStatistics statistics) {
+        try {
+            final SplittableRandom random = randomOf(seed, dealIndex);
+            final long dealSeed = random.nextLong();
+            final var bot1 = Player.ofBot(uuidBot1, bot1Name);
+            final var bot2 = Player.ofBot(uuidBot2, bot2Name);
+            final var game = new Game(bot1, bot2, SimulationIdGenerator.next(random), DealSource.shuffled(new SplittableRandom(dealSeed)));
+            playToEnd(game);
+
+            final var mirroredBot1 = Player.ofBot(uuidBot1, bot1Name);
+            final var mirroredBot2 = Player.ofBot(uuidBot2, bot2Name);
+            final var mirrored = new Game(mirroredBot2, mirroredBot1, SimulationIdGenerator.next(random), DealSource.shuffled(new SplittableRandom(dealSeed)));
+            playToEnd(mirrored);
+
+            statistics.recordPair(game, mirrored);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    public PlayWithBotsDto replay(long seed, int gameIndex) {
+        return simulate(seed, gameIndex);
+    }
+
+    //Each game owns a random stream derived from the seed and its index, not from the thread that plays it.
+    //Thus, no lock is shared among threads and the same seed always deals the same cards to the same game.
+    //The seed is hashed before the index is added, so that consecutive seeds do not replay shifted games.
+    private static SplittableRandom randomOf(long seed, int gameIndex) {
+        final long seedHash = new SplittableRandom(seed).nextLong();
+        final long gameSeed = new SplittableRandom(seedHash + gameIndex).nextLong();
+        return new SplittableRandom(gameSeed);
+    }
+
+    //Nobody reads the intel history of simulated games, so it is not recorded.
+    private void playToEnd(Game game) {
+        game.setIntelHistoryPolicy(IntelHistoryPolicy.NONE);
+        new BotGameEngine(game, deadline).playToEnd();
+    }
+
+    private PlayWithBotsDto simulate(long seed, int gameIndex){
+        final Player winner = play(seed, gameIndex).getWinner().orElseThrow();
+        return new PlayWithBotsDto(winner.getUuid(), winner.getUsername());
+    }
+
+    //The first player leads the first hand, so bots swap seats in odd games to share that advantage.
+    private Game play(long seed, int gameIndex){
+        final SplittableRandom random = randomOf(seed, gameIndex);
         final var requestModel = new CreateForBotsDto(uuidBot1, bot1Name, uuidBot2, bot2Name);
-        final CreateGameUseCase createGameUseCase = new CreateGameUseCase(gameRepository);
-        createGameUseCase.createForBots(requestModel);
-        final var game = gameRepository.findByPlayerUuid(requestModel.bot1Uuid()).map(GameConverter::fromDto).orElseThrow();
-        final var botUseCase = new BotUseCase(gameRepository);
+        final var bot1 = Player.ofBot(requestModel.bot1Uuid(), requestModel.bot1Name());
+        final var bot2 = Player.ofBot(requestModel.bot2Uuid(), requestModel.bot2Name());
+        final var game = gameIndex % 2 == 0
+                ? new Game(bot1, bot2, SimulationIdGenerator.next(random), new Deck(random))
+                : new Game(bot2, bot1, SimulationIdGenerator.next(random), new Deck(random));
 
         //Plays the game
-        final var intel = botUseCase.playWhenNecessary(game);
+        playToEnd(game);
 
-        final var winnerUUID = intel.gameWinner().orElseThrow();
-        final var winnerName = winnerUUID.equals(requestModel.bot1Uuid()) ?
-                requestModel.bot1Name() : requestModel.bot2Name();
-        System.out.println("Winner: " + winnerName);
-        return new PlayWithBotsDto(winnerUUID, winnerName);
+        return game;
     }
 
-
     private Function<Callable<PlayWithBotsDto>, PlayWithBotsDto> executeGameCall(){
         return gameCall -> {
             try {
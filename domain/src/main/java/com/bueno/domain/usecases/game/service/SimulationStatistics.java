@@ -0,0 +1,178 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//Aggregates the results of simulated games as they finish. Memory depends only on the number of bots, not on the
+//number of games, and the striped counters let every simulation thread record results without contention.
+public class SimulationStatistics {
+    private final Map<String, BotCounters> countersByBot = new ConcurrentHashMap<>();
+    private final LongAdder games = new LongAdder();
+    private final LongAdder hands = new LongAdder();
+
+    public void record(Game game) {
+        final Player winner = game.getWinner().orElseThrow(() -> new IllegalStateException("Game is not over."));
+        final long gameLength = game.handsPlayed();
+
+        games.increment();
+        hands.add(gameLength);
+        recordFor(game.getPlayer1(), winner, gameLength);
+        recordFor(game.getPlayer2(), winner, gameLength);
+    }
+
+    //Records two games played with the same deals and swapped seats. Besides the results of each game, it records,
+    //for each bot, the paired difference between its wins and the wins of the opponent in the pair (-1, 0 or 1) and
+    //the difference between the points it and the opponent scored in both games.
+    public void recordPair(Game game, Game mirroredGame) {
+        record(game);
+        record(mirroredGame);
+        recordPairFor(game.getPlayer1(), game.getPlayer2(), game, mirroredGame);
+        recordPairFor(game.getPlayer2(), game.getPlayer1(), game, mirroredGame);
+    }
+
+    private void recordPairFor(Player player, Player opponent, Game game, Game mirroredGame) {
+        final int winsDifference = pairWinsOf(player, game, mirroredGame) - pairWinsOf(opponent, game, mirroredGame);
+        final long pointsDifference = pairPointsOf(player, game, mirroredGame) - pairPointsOf(opponent, game, mirroredGame);
+        final BotCounters counters = countersByBot.computeIfAbsent(player.getUsername(), name -> new BotCounters());
+        counters.pairs.increment();
+        counters.pairWinsDifference.add(winsDifference / 2);
+        counters.pairPointsDifference.add(pointsDifference);
+        if (winsDifference != 0) counters.decisivePairs.increment();
+    }
+
+    private int pairWinsOf(Player player, Game game, Game mirroredGame) {
+        return (isWinner(player, game) ? 1 : 0) + (isWinner(player, mirroredGame) ? 1 : 0);
+    }
+
+    private boolean isWinner(Player player, Game game) {
+        return game.getWinner().map(winner -> winner.getUuid().equals(player.getUuid())).orElse(false);
+    }
+
+    private long pairPointsOf(Player player, Game game, Game mirroredGame) {
+        return playerOf(player, game).getScore() + playerOf(player, mirroredGame).getScore();
+    }
+
+    private Player playerOf(Player player, Game game) {
+        return game.getPlayer1().getUuid().equals(player.getUuid()) ? game.getPlayer1() : game.getPlayer2();
+    }
+
+    //Records a hand whose deal has been solved with perfect information. A player that plays optimally never scores
+    //less than the solved value, whatever its opponent does, so the points below that value are the points it has
+    //given away. The solved and scored points are those of the first to play.
+    public void recordSolvedHand(Player firstToPlay, Player lastToPlay, int solvedPoints, int scoredPoints) {
+        recordSolvedHandFor(firstToPlay, solvedPoints - scoredPoints);
+        recordSolvedHandFor(lastToPlay, scoredPoints - solvedPoints);
+    }
+
+    private void recordSolvedHandFor(Player player, int pointsBelowOptimal) {
+        final BotCounters counters = countersByBot.computeIfAbsent(player.getUsername(), name -> new BotCounters());
+        counters.solvedHands.increment();
+        if (pointsBelowOptimal <= 0) return;
+        counters.handsBelowOptimal.increment();
+        counters.pointsBelowOptimal.add(pointsBelowOptimal);
+    }
+
+    private void recordFor(Player player, Player winner, long gameLength) {
+        final BotCounters counters = countersByBot.computeIfAbsent(player.getUsername(), name -> new BotCounters());
+        counters.games.increment();
+        counters.hands.add(gameLength);
+        counters.points.add(player.getScore());
+        if (player.equals(winner)) counters.wins.increment();
+    }
+
+    public long getGames() {
+        return games.sum();
+    }
+
+    public long getHandsPlayed() {
+        return hands.sum();
+    }
+
+    public double getAverageGameLength() {
+        final long numberOfGames = getGames();
+        return numberOfGames == 0 ? 0.0 : (double) getHandsPlayed() / numberOfGames;
+    }
+
+    public long getGames(String botName) {
+        return countersOf(botName).games.sum();
+    }
+
+    public long getWins(String botName) {
+        return countersOf(botName).wins.sum();
+    }
+
+    public long getPoints(String botName) {
+        return countersOf(botName).points.sum();
+    }
+
+    public long getHandsPlayed(String botName) {
+        return countersOf(botName).hands.sum();
+    }
+
+    public long getPairs(String botName) {
+        return countersOf(botName).pairs.sum();
+    }
+
+    //Mean of the paired win differences, from -1 (lost both games of every pair) to 1 (won both games of every pair).
+    public double getPairedWinDifference(String botName) {
+        final long pairs = getPairs(botName);
+        return pairs == 0 ? 0.0 : (double) countersOf(botName).pairWinsDifference.sum() / pairs;
+    }
+
+    public double getPairedWinDifferenceStandardError(String botName) {
+        final long pairs = getPairs(botName);
+        if (pairs < 2) return Double.POSITIVE_INFINITY;
+        final double mean = getPairedWinDifference(botName);
+        //Paired differences are -1, 0 or 1, so the mean of their squares is the rate of decisive pairs.
+        final double meanOfSquares = (double) countersOf(botName).decisivePairs.sum() / pairs;
+        final double variance = (meanOfSquares - mean * mean) * pairs / (pairs - 1);
+        return Math.sqrt(Math.max(variance, 0.0) / pairs);
+    }
+
+    public double getPairedPointsDifference(String botName) {
+        final long pairs = getPairs(botName);
+        return pairs == 0 ? 0.0 : (double) countersOf(botName).pairPointsDifference.sum() / pairs;
+    }
+
+    public long getSolvedHands(String botName) {
+        return countersOf(botName).solvedHands.sum();
+    }
+
+    public long getHandsBelowOptimal(String botName) {
+        return countersOf(botName).handsBelowOptimal.sum();
+    }
+
+    public long getPointsBelowOptimal(String botName) {
+        return countersOf(botName).pointsBelowOptimal.sum();
+    }
+
+    //Mean of the points given away per solved hand. It is zero for a bot that always plays as well as a player that
+    //sees the cards of its opponent.
+    public double getOptimalityGap(String botName) {
+        final long solvedHands = getSolvedHands(botName);
+        return solvedHands == 0 ? 0.0 : (double) getPointsBelowOptimal(botName) / solvedHands;
+    }
+
+    private BotCounters countersOf(String botName) {
+        return countersByBot.getOrDefault(botName, BotCounters.EMPTY);
+    }
+
+    private static class BotCounters {
+        private static final BotCounters EMPTY = new BotCounters();
+        private final LongAdder games = new LongAdder();
+        private final LongAdder wins = new LongAdder();
+        private final LongAdder points = new LongAdder();
+        private final LongAdder hands = new LongAdder();
+        private final LongAdder pairs = new LongAdder();
+        private final LongAdder pairWinsDifference = new LongAdder();
+        private final LongAdder decisivePairs = new LongAdder();
+        private final LongAdder pairPointsDifference = new LongAdder();
+        private final LongAdder solvedHands = new LongAdder();
+        private final LongAdder handsBelowOptimal = new LongAdder();
+        private final LongAdder pointsBelowOptimal = new LongAdder();
+    }
+}
@@ -0,0 +1,167 @@
+package com.bueno.domain.usecases.game.service;
+
+import com.bueno.domain.usecases.bot.DecisionDeadline;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+//Builds the matchups of a tournament once, playing each pair of bots a single time no matter the seat order, and
+//plays all games of all matchups as independent tasks of the same work-stealing pool. This way, no core is left idle
+//waiting for a small batch of games of a single matchup to finish.
+public class TournamentScheduler {
+    private static final int MIN_BATCH_SIZE = 4;
+    private final List<Matchup> matchups;
+    private final int gamesPerMatchup;
+    private final DecisionDeadline deadline;
+
+    private TournamentScheduler(List<Matchup> matchups, int gamesPerMatchup, DecisionDeadline deadline) {
+        this.matchups = List.copyOf(matchups);
+        this.gamesPerMatchup = gamesPerMatchup;
+        this.deadline = deadline;
+    }
+
+    public static TournamentScheduler roundRobin(List<String> botNames, int gamesPerMatchup) {
+        return roundRobin(botNames, gamesPerMatchup, ThreadLocalRandom.current().nextLong());
+    }
+
+    public static TournamentScheduler roundRobin(List<String> botNames, int gamesPerMatchup, long seed) {
+        final List<String> distinctNames = distinct(botNames);
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<Matchup> matchups = new ArrayList<>();
+        for (int i = 0; i < distinctNames.size(); i++)
+            for (int j = i + 1; j < distinctNames.size(); j++)
+                matchups.add(new Matchup(distinctNames.get(i), distinctNames.get(j), random.nextLong()));
+        return new TournamentScheduler(matchups, gamesPerMatchup, SimulationService.SIMULATION_DEADLINE);
+    }
+
+    public static TournamentScheduler oneAgainstAll(String botName, List<String> botNames, int gamesPerMatchup) {
+        return oneAgainstAll(botName, botNames, gamesPerMatchup, ThreadLocalRandom.current().nextLong());
+    }
+
+    public static TournamentScheduler oneAgainstAll(String botName, List<String> botNames, int gamesPerMatchup, long seed) {
+        Objects.requireNonNull(botName, "Bot name must not be null!");
+        final SplittableRandom random = new SplittableRandom(seed);
+        final List<Matchup> matchups = distinct(botNames).stream()
+                .filter(opponentName -> !opponentName.equals(botName))
+                .map(opponentName -> new Matchup(botName, opponentName, random.nextLong()))
+                .toList();
+        return new TournamentScheduler(matchups, gamesPerMatchup, SimulationService.SIMULATION_DEADLINE);
+    }
+
+    //Returns the same tournament with its decisions bounded by the given deadline instead of the simulation one. A
+    //null deadline means that decisions are not bounded.
+    public TournamentScheduler withDeadline(DecisionDeadline deadline) {
+        return new TournamentScheduler(matchups, gamesPerMatchup, deadline);
+    }
+
+    private static List<String> distinct(List<String> botNames) {
+        return Objects.requireNonNull(botNames, "Bot names must not be null!").stream().distinct().toList();
+    }
+
+    public List<MatchupResult> play() {
+        final List<SimulationService> services = createServices();
+        final List<SimulationStatistics> statistics = matchups.stream().map(matchup -> new SimulationStatistics()).toList();
+
+        //Each task is a single game, identified by its position in the flattened matchups x games matrix.
+        IntStream.range(0, matchups.size() * gamesPerMatchup).parallel().forEach(task -> {
+            final int matchupIndex = task / gamesPerMatchup;
+            final int gameIndex = task % gamesPerMatchup;
+            final long seed = matchups.get(matchupIndex).seed();
+            services.get(matchupIndex).playAndRecord(seed, gameIndex, statistics.get(matchupIndex));
+        });
+
+        return toResults(statistics);
+    }
+
+    //Plays each matchup with duplicate deals: the games per matchup given to the scheduler become the number of deal
+    //sequences, and each one is played twice with the bots' seats swapped. Each task is a pair of mirrored games.
+    public List<MatchupResult> playDuplicate() {
+        final List<SimulationService> services = createServices();
+        final List<SimulationStatistics> statistics = matchups.stream().map(matchup -> new SimulationStatistics()).toList();
+
+        IntStream.range(0, matchups.size() * gamesPerMatchup).parallel().forEach(task -> {
+            final int matchupIndex = task / gamesPerMatchup;
+            final int dealIndex = task % gamesPerMatchup;
+            final long seed = matchups.get(matchupIndex).seed();
+            services.get(matchupIndex).playDuplicateAndRecord(seed, dealIndex, statistics.get(matchupIndex));
+        });
+
+        return toResults(statistics);
+    }
+
+    //Plays the matchups in rounds of small batches, leaving out those already settled by the sequential test. Thus,
+    //the games that would be wasted in lopsided matchups are spent on the close ones. The games per matchup given
+    //to the scheduler become the maximum number of games a matchup may play without being settled.
+    public List<MatchupResult> playAdaptively(SequentialWinRateEvaluator evaluator) {
+        final List<SimulationService> services = createServices();
+        final List<SimulationStatistics> statistics = matchups.stream().map(matchup -> new SimulationStatistics()).toList();
+        final int[] gamesStarted = new int[matchups.size()];
+        List<Integer> openMatchups = IntStream.range(0, matchups.size()).boxed().toList();
+
+        while (!openMatchups.isEmpty()) {
+            final int batchSize = batchSizeFor(openMatchups.size());
+            final List<int[]> tasks = new ArrayList<>();
+            for (int matchupIndex : openMatchups) {
+                final int batchEnd = Math.min(gamesStarted[matchupIndex] + batchSize, gamesPerMatchup);
+                for (int gameIndex = gamesStarted[matchupIndex]; gameIndex < batchEnd; gameIndex++)
+                    tasks.add(new int[]{matchupIndex, gameIndex});
+                gamesStarted[matchupIndex] = batchEnd;
+            }
+
+            tasks.parallelStream().forEach(task -> services.get(task[0])
+                    .playAndRecord(matchups.get(task[0]).seed(), task[1], statistics.get(task[0])));
+
+            openMatchups = openMatchups.stream()
+                    .filter(matchupIndex -> gamesStarted[matchupIndex] < gamesPerMatchup)
+                    .filter(matchupIndex -> isUndecided(evaluator, matchups.get(matchupIndex), statistics.get(matchupIndex)))
+                    .toList();
+        }
+
+        return toResults(statistics);
+    }
+
+    private int batchSizeFor(int numberOfOpenMatchups) {
+        final int threads = ForkJoinPool.getCommonPoolParallelism();
+        return Math.max(MIN_BATCH_SIZE, (2 * threads + numberOfOpenMatchups - 1) / numberOfOpenMatchups);
+    }
+
+    private boolean isUndecided(SequentialWinRateEvaluator evaluator, Matchup matchup, SimulationStatistics statistics) {
+        final long bot1Wins = statistics.getWins(matchup.bot1Name());
+        return evaluator.decide(bot1Wins, statistics.getGames()) == SequentialWinRateEvaluator.Outcome.UNDECIDED;
+    }
+
+    private List<SimulationService> createServices() {
+        return matchups.stream()
+                .map(matchup -> new SimulationService(UUID.randomUUID(), matchup.bot1Name(), matchup.bot2Name(), deadline))
+                .toList();
+    }
+
+    private List<MatchupResult> toResults(List<SimulationStatistics> statistics) {
+        return IntStream.range(0, matchups.size())
+                .mapToObj(i -> new MatchupResult(matchups.get(i).bot1Name(), matchups.get(i).bot2Name(), statistics.get(i)))
+                .toList();
+    }
+
+    public int numberOfMatchups() {
+        return matchups.size();
+    }
+
+    public int numberOfGames() {
+        return matchups.size() * gamesPerMatchup;
+    }
+
+    private record Matchup(String bot1Name, String bot2Name, long seed) {
+    }
+
+    public record MatchupResult(String bot1Name, String bot2Name, SimulationStatistics statistics) {
+        public double confidence() {
+            return SequentialWinRateEvaluator.confidence(statistics.getWins(bot1Name), statistics.getGames());
+        }
+    }
+}
@@ -75,7 +75,7 @@ public class CreateGameUseCase {
     }
 
     private boolean hasNoBotServiceWith(String botName) {
-        return !BotServiceManager.providersNames().contains(botName);
+        return !BotServiceManager.isAvailable(botName);
     }
 
     public IntelDto createDetached(CreateDetachedDto request){
@@ -1,54 +1,84 @@
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.bot.DecisionDeadline;
 import com.bueno.domain.usecases.game.dtos.EvaluateResultsDto;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.service.SequentialWinRateEvaluator;
 import com.bueno.domain.usecases.game.service.SimulationService;
+import com.bueno.domain.usecases.game.service.SimulationStatistics;
+import com.bueno.domain.usecases.game.service.TournamentScheduler;
+import com.bueno.domain.usecases.game.service.TournamentScheduler.MatchupResult;
 import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
 
 import java.util.List;
-import java.util.Map;
-import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class EvaluateBotsUseCase {
-    private final UUID uuidBotToEvaluate = UUID.randomUUID();
     private final String botToEvaluateName;
+    private final DecisionDeadline deadline;
     public static final int TIMES = 31;
+    public static final double ADAPTIVE_MARGIN = 0.05;
 
     public EvaluateBotsUseCase(String botToEvaluateName) {
+        this(botToEvaluateName, SimulationService.SIMULATION_DEADLINE);
+    }
+
+    //A null deadline means that decisions are not bounded.
+    public EvaluateBotsUseCase(String botToEvaluateName, DecisionDeadline deadline) {
         this.botToEvaluateName = botToEvaluateName;
+        this.deadline = deadline;
     }
 
     public EvaluateResultsDto getResults(List<String> botNames) {
-        final int numberOfGames = (botNames.size() - 1) * TIMES;
-
         final long start = System.currentTimeMillis();
-        var results = botNames.stream().filter(this::isNotEvaluatedBot).map(this::runSimulations).toList();
+        final var results = TournamentScheduler.oneAgainstAll(botToEvaluateName, botNames, TIMES).withDeadline(deadline).play();
         final long end = System.currentTimeMillis();
 
-        final long evaluatedBotWins = results.stream().mapToLong(this::resultAccumulator).sum();
-        final long gameWins = results.stream().mapToLong(match -> WinsAccumulatorService.getWins(match, botToEvaluateName, TIMES)).sum();
+        final long gameWins = results.stream()
+                .mapToLong(match -> WinsAccumulatorService.getWins(match.statistics(), botToEvaluateName, TIMES))
+                .sum();
+        return toDto(botNames, results, end - start, (botNames.size() - 1) * TIMES, gameWins);
+    }
 
-        double winRate = ((double) evaluatedBotWins / numberOfGames) * 100;
-        double percentile = (((double) gameWins / (botNames.size() - 1)) * 100);
+    public EvaluateResultsDto getAdaptiveResults(List<String> botNames, double errorRate, int maxGamesPerOpponent) {
+        return getAdaptiveResults(botNames, errorRate, ADAPTIVE_MARGIN, maxGamesPerOpponent);
+    }
+
+    //Plays each opponent until the sequential test tells, with the given error rate, whether the evaluated bot wins
+    //more than (50% + margin) or less than (50% - margin) of the games, or until the maximum number of games is played.
+    public EvaluateResultsDto getAdaptiveResults(List<String> botNames, double errorRate, double margin, int maxGamesPerOpponent) {
+        final var evaluator = new SequentialWinRateEvaluator(errorRate, margin);
 
-        return new EvaluateResultsDto((end - start), numberOfGames, evaluatedBotWins, winRate, percentile, gameWins);
+        final long start = System.currentTimeMillis();
+        final var results = TournamentScheduler.oneAgainstAll(botToEvaluateName, botNames, maxGamesPerOpponent)
+                .withDeadline(deadline).playAdaptively(evaluator);
+        final long end = System.currentTimeMillis();
+
+        final long gamesPlayed = gamesPlayed(results);
+        final long gameWins = results.stream()
+                .mapToLong(match -> WinsAccumulatorService.getWins(match.statistics(), botToEvaluateName))
+                .sum();
+        return toDto(botNames, results, end - start, gamesPlayed, gameWins);
     }
 
-    private boolean isNotEvaluatedBot(String opponentName) {
-        return !opponentName.equals(botToEvaluateName);
+    private EvaluateResultsDto toDto(List<String> botNames, List<MatchupResult> results, long computingTime,
+                                     long numberOfGames, long gameWins) {
+        final long evaluatedBotWins = results.stream().map(MatchupResult::statistics).mapToLong(this::resultAccumulator).sum();
+        final long gamesPlayed = gamesPlayed(results);
+        //The overall confidence is the one of the least settled matchup.
+        final double confidence = results.stream().mapToDouble(MatchupResult::confidence).min().orElse(0.0);
+
+        double winRate = gamesPlayed == 0 ? 0.0 : ((double) evaluatedBotWins / gamesPlayed) * 100;
+        double percentile = (((double) gameWins / (botNames.size() - 1)) * 100);
+
+        return new EvaluateResultsDto(computingTime, numberOfGames, evaluatedBotWins, winRate, percentile, gameWins,
+                gamesPlayed, confidence);
     }
 
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName) {
-        final var playManyService = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return playManyService.runInParallel(TIMES);
+    private long gamesPlayed(List<MatchupResult> results) {
+        return results.stream().mapToLong(match -> match.statistics().getGames()).sum();
     }
 
-    private Long resultAccumulator(List<PlayWithBotsDto> results) {
-        Map<String, Long> collectResults = results.stream()
-                .collect(Collectors.groupingBy(PlayWithBotsDto::name, Collectors.counting()));
-        if (!collectResults.containsKey(botToEvaluateName)) return 0L;
-        return collectResults.get(botToEvaluateName);
+    private long resultAccumulator(SimulationStatistics results) {
+        return results.getWins(botToEvaluateName);
     }
 
 }
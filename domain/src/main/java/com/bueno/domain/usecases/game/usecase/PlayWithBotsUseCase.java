@@ -20,6 +20,7 @@
 
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.bot.DecisionDeadline;
 import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
 import com.bueno.domain.usecases.game.service.SimulationService;
 
@@ -31,16 +32,28 @@ public class PlayWithBotsUseCase {
     private final UUID uuidBot1;
     private final String bot1Name;
     private final String bot2Name;
+    private final DecisionDeadline deadline;
 
     public PlayWithBotsUseCase(UUID uuidBot1, String bot1Name, String bot2Name) {
+        this(uuidBot1, bot1Name, bot2Name, SimulationService.SIMULATION_DEADLINE);
+    }
+
+    //A null deadline means that decisions are not bounded.
+    public PlayWithBotsUseCase(UUID uuidBot1, String bot1Name, String bot2Name, DecisionDeadline deadline) {
         this.uuidBot1 = uuidBot1;
         this.bot1Name = bot1Name;
         this.bot2Name = bot2Name;
+        this.deadline = deadline;
     }
 
     public List<PlayWithBotsDto> playWithBots(int times) {
-        final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name);
+        final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name, deadline);
         return simulator.runInParallel(times);
     }
 
+    public List<PlayWithBotsDto> playWithBots(int times, long seed) {
+        final var simulator = new SimulationService(uuidBot1, bot1Name, bot2Name, deadline);
+        return simulator.runInParallel(times, seed);
+    }
+
 }
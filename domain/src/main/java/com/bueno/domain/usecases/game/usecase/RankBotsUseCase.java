@@ -1,45 +1,64 @@
 package com.bueno.domain.usecases.game.usecase;
 
+import com.bueno.domain.usecases.bot.DecisionDeadline;
 import com.bueno.domain.usecases.bot.providers.BotProviders;
-import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.service.SequentialWinRateEvaluator;
 import com.bueno.domain.usecases.game.service.SimulationService;
+import com.bueno.domain.usecases.game.service.TournamentScheduler;
+import com.bueno.domain.usecases.game.service.TournamentScheduler.MatchupResult;
 import com.bueno.domain.usecases.game.service.WinsAccumulatorService;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 public class RankBotsUseCase {
     private final int TIMES = 7;
     private final Map<String, Long> rankMap = new HashMap<>();
     private final List<String> botNames = BotProviders.availableBots();
+    private final DecisionDeadline deadline;
+
+    public RankBotsUseCase() {
+        this(SimulationService.SIMULATION_DEADLINE);
+    }
+
+    //A null deadline means that decisions are not bounded.
+    public RankBotsUseCase(DecisionDeadline deadline) {
+        this.deadline = deadline;
+    }
 
     public Map<String, Long> rankAll() {
-        botNames.forEach(this::playAgainstAll);
+        botNames.forEach(botName -> rankMap.put(botName, 0L));
+        TournamentScheduler.roundRobin(botNames, TIMES).withDeadline(deadline).play().forEach(this::addMatchWins);
         return rankMap;
     }
 
-    private void playAgainstAll(String botName) {
-        UUID uuidBotToEvaluate = UUID.randomUUID();
-        var results = botNames.stream()
-                .filter(opponentName -> isNotEvaluatedBot(opponentName, botName))
-                .map(opponent -> runSimulations(opponent, botName, uuidBotToEvaluate))
-                .toList();
-
-        Long botWins = results.stream()
-                .mapToLong(match -> WinsAccumulatorService.getWins(match, botName, TIMES))
-                .sum();
-        rankMap.put(botName, botWins);
+    //Each matchup plays until the sequential test settles its winner with the given error rate or until the maximum
+    //number of games is played. Matches not settled are still credited to the bot with most wins.
+    public Map<String, Long> rankAllAdaptively(double errorRate, int maxGamesPerMatchup) {
+        final var evaluator = new SequentialWinRateEvaluator(errorRate, EvaluateBotsUseCase.ADAPTIVE_MARGIN);
+        botNames.forEach(botName -> rankMap.put(botName, 0L));
+        TournamentScheduler.roundRobin(botNames, maxGamesPerMatchup).withDeadline(deadline).playAdaptively(evaluator).forEach(result -> {
+            rankMap.merge(result.bot1Name(), WinsAccumulatorService.getWins(result.statistics(), result.bot1Name()), Long::sum);
+            rankMap.merge(result.bot2Name(), WinsAccumulatorService.getWins(result.statistics(), result.bot2Name()), Long::sum);
+        });
+        return rankMap;
     }
 
-    private boolean isNotEvaluatedBot(String opponentName, String botToEvaluateName) {
-        return !opponentName.equals(botToEvaluateName);
+    //Each match is decided by the paired win difference of games played twice with the same deals and swapped seats,
+    //so fewer deals are needed per match than games in the regular ranking to reach a stable ranking.
+    public Map<String, Long> rankAllWithDuplicateDeals(int dealsPerMatchup) {
+        botNames.forEach(botName -> rankMap.put(botName, 0L));
+        TournamentScheduler.roundRobin(botNames, dealsPerMatchup).withDeadline(deadline).playDuplicate().forEach(result -> {
+            final double difference = result.statistics().getPairedWinDifference(result.bot1Name());
+            if (difference > 0) rankMap.merge(result.bot1Name(), 1L, Long::sum);
+            else if (difference < 0) rankMap.merge(result.bot2Name(), 1L, Long::sum);
+        });
+        return rankMap;
     }
 
-    private List<PlayWithBotsDto> runSimulations(String challengedBotName, String botToEvaluateName, UUID uuidBotToEvaluate) {
-        final var simulator = new SimulationService(uuidBotToEvaluate, botToEvaluateName, challengedBotName);
-        return simulator.runInParallel(TIMES);
+    private void addMatchWins(MatchupResult result) {
+        rankMap.merge(result.bot1Name(), WinsAccumulatorService.getWins(result.statistics(), result.bot1Name(), TIMES), Long::sum);
+        rankMap.merge(result.bot2Name(), WinsAccumulatorService.getWins(result.statistics(), result.bot2Name(), TIMES), Long::sum);
     }
-
 }
@@ -54,10 +54,20 @@ public class PlayCardUseCase {
                            GameResultRepository gameResultRepository,
                            HandResultRepository handResultRepository) {
 
+        this(gameRepository, gameResultRepository, handResultRepository,
+                new BotUseCase(gameRepository, gameResultRepository, handResultRepository));
+    }
+
+    //A null botUseCase means that bots are not asked to play after the request. It is used by the bot handlers,
+    //since the BotUseCase itself loops over the bot decisions.
+    public PlayCardUseCase(GameRepository gameRepository,
+                           GameResultRepository gameResultRepository,
+                           HandResultRepository handResultRepository,
+                           BotUseCase botUseCase) {
         this.gameRepository = gameRepository;
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
-        this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
+        this.botUseCase = botUseCase;
     }
 
     public IntelDto playCard(PlayCardDto request) {
@@ -88,6 +98,7 @@ public class PlayCardUseCase {
 
         gameRepository.update(GameConverter.toDto(game));
         if(gameResult != null) return gameResult;
+        if(botUseCase == null) return IntelConverter.toDto(game.getIntel());
 
         botUseCase.playWhenNecessary(game);
 
@@ -56,10 +56,20 @@ public class PointsProposalUseCase {
     public PointsProposalUseCase(GameRepository gameRepository,
                                  GameResultRepository gameResultRepository,
                                  HandResultRepository handResultRepository) {
+        this(gameRepository, gameResultRepository, handResultRepository,
+                new BotUseCase(gameRepository, gameResultRepository, handResultRepository));
+    }
+
+    //A null botUseCase means that bots are not asked to play after the request. It is used by the bot handlers,
+    //since the BotUseCase itself loops over the bot decisions.
+    public PointsProposalUseCase(GameRepository gameRepository,
+                                 GameResultRepository gameResultRepository,
+                                 HandResultRepository handResultRepository,
+                                 BotUseCase botUseCase) {
         this.gameRepository = Objects.requireNonNull( gameRepository);
         this.gameResultRepository = gameResultRepository;
         this.handResultRepository = handResultRepository;
-        this.botUseCase = new BotUseCase(gameRepository, gameResultRepository, handResultRepository);
+        this.botUseCase = botUseCase;
     }
 
     public IntelDto raise(UUID playerUuid){
@@ -71,6 +81,8 @@ public class PointsProposalUseCase {
 
         hand.raise(player);
         gameRepository.update(GameConverter.toDto(game));
+        if(botUseCase == null) return IntelConverter.toDto(game.getIntel());
+
         botUseCase.playWhenNecessary(game);
 
         game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
@@ -86,6 +98,8 @@ public class PointsProposalUseCase {
 
         hand.accept(player);
         gameRepository.update(GameConverter.toDto(game));
+        if(botUseCase == null) return IntelConverter.toDto(game.getIntel());
+
         botUseCase.playWhenNecessary(game);
 
         game = gameRepository.findByPlayerUuid(playerUuid).map(GameConverter::fromDto).orElseThrow();
@@ -106,6 +120,7 @@ public class PointsProposalUseCase {
 
         gameRepository.update(GameConverter.toDto(game));
         if(gameResult != null) return gameResult;
+        if(botUseCase == null) return IntelConverter.toDto(game.getIntel());
 
         botUseCase.playWhenNecessary(game);
 
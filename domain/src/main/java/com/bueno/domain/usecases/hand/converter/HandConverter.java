@@ -24,7 +24,7 @@ import com.bueno.domain.entities.hand.Hand;
 import com.bueno.domain.entities.hand.HandPoints;
 import com.bueno.domain.entities.hand.HandResult;
 import com.bueno.domain.entities.hand.Round;
-import com.bueno.domain.entities.intel.PossibleAction;
+import com.bueno.domain.entities.intel.PossibleActions;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.game.converter.PlayerConverter;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
@@ -32,11 +32,9 @@ import com.bueno.domain.usecases.hand.dtos.HandDto;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 
-import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 public class HandConverter {
 
@@ -49,8 +47,9 @@ public class HandConverter {
                 hand.getDealtCards().stream().map(CardConverter::toDto).toList(),
                 hand.getOpenCards().stream().map(CardConverter::toDto).toList(),
                 hand.getRoundsPlayed().stream().map(RoundConverter::toDto).toList(),
-                hand.getIntelHistory().stream().map(IntelConverter::toDto).toList(),
-                hand.getPossibleActions().stream().map(PossibleAction::toString).collect(Collectors.toSet()),
+                hand.getStoredIntelHistory().stream().map(IntelConverter::toDto).toList(),
+                hand.getIntelLog().stream().map(IntelLogEntryConverter::toDto).toList(),
+                hand.getPossibleActions().names(),
                 PlayerConverter.toDto(hand.getFirstToPlay()),
                 PlayerConverter.toDto(hand.getLastToPlay()),
                 PlayerConverter.toDto(hand.getCurrentPlayer()),
@@ -69,13 +68,6 @@ public class HandConverter {
 
         final Map<UUID, Player> players = Map.of(player1.getUuid(), player1, player2.getUuid(), player2);
 
-        final var actions = dto.possibleActions().stream()
-                .map(PossibleAction::valueOf).collect(Collectors.toSet());
-
-        final var possibleActions = actions.isEmpty()
-                ? EnumSet.noneOf(PossibleAction.class)
-                : EnumSet.copyOf(actions);
-
         final List<Round> rounds = dto.roundsPlayed().stream()
                 .map(roundDto -> RoundConverter.fromDto(roundDto, player1, player2))
                 .toList();
@@ -86,7 +78,8 @@ public class HandConverter {
                 dto.openCards().stream().map(CardConverter::fromDto).toList(),
                 rounds,
                 dto.history().stream().map(IntelConverter::fromDto).toList(),
-                possibleActions,
+                dto.intelLog().stream().map(entry -> IntelLogEntryConverter.fromDto(entry, player1, player2)).toList(),
+                PossibleActions.fromNames(dto.possibleActions()),
                 players.get(dto.firstToPlay().uuid()),
                 players.get(dto.lastToPlay().uuid()),
                 dto.currentPlayer() != null ? players.get(dto.currentPlayer().uuid()) : null,
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand.converter;
+
+import com.bueno.domain.entities.hand.HandPoints;
+import com.bueno.domain.entities.hand.HandResult;
+import com.bueno.domain.entities.intel.Event;
+import com.bueno.domain.entities.intel.IntelLogEntry;
+import com.bueno.domain.entities.intel.PossibleActions;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.hand.dtos.IntelLogEntryDto;
+import com.bueno.domain.usecases.intel.converters.CardConverter;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class IntelLogEntryConverter {
+
+    private IntelLogEntryConverter(){}
+
+    public static IntelLogEntryDto toDto(IntelLogEntry entry){
+        if(entry == null) return null;
+        final HandResult result = entry.result();
+        return new IntelLogEntryDto(
+                entry.timestamp(),
+                entry.event().name(),
+                uuidOf(entry.eventPlayer()),
+                uuidOf(entry.currentPlayer()),
+                entry.firstToPlay().getUuid(),
+                entry.lastToPlay().getUuid(),
+                entry.firstToPlayScore(),
+                entry.lastToPlayScore(),
+                entry.firstToPlayCards(),
+                entry.lastToPlayCards(),
+                entry.players() != null ? entry.players().stream().map(IntelConverter::ofPlayerIntel).toList() : null,
+                entry.points().get(),
+                entry.pointsProposal() != null ? entry.pointsProposal().get() : 0,
+                result != null ? result.getWinner().map(Player::getUuid).orElse(null) : null,
+                result != null ? result.getPoints().get() : null,
+                CardConverter.toDto(entry.cardToPlayAgainst()),
+                entry.numberOfOpenCards(),
+                entry.numberOfRoundsPlayed(),
+                PossibleActions.of(entry.possibleActions()).names()
+        );
+    }
+
+    public static IntelLogEntry fromDto(IntelLogEntryDto dto, Player player1, Player player2){
+        if(dto == null) return null;
+
+        final Map<UUID, Player> players = Map.of(player1.getUuid(), player1, player2.getUuid(), player2);
+
+        return new IntelLogEntry(
+                dto.timestamp(),
+                Event.valueOf(dto.event()),
+                dto.eventPlayer() != null ? players.get(dto.eventPlayer()) : null,
+                dto.currentPlayer() != null ? players.get(dto.currentPlayer()) : null,
+                players.get(dto.firstToPlay()),
+                players.get(dto.lastToPlay()),
+                dto.firstToPlayScore(),
+                dto.lastToPlayScore(),
+                dto.firstToPlayCards(),
+                dto.lastToPlayCards(),
+                dto.players() != null ? dto.players().stream().map(IntelConverter::ofPlayerDto).toList() : null,
+                HandPoints.fromIntValue(dto.points()),
+                dto.pointsProposal() != 0 ? HandPoints.fromIntValue(dto.pointsProposal()) : null,
+                resultFromDto(dto, players),
+                CardConverter.fromDto(dto.cardToPlayAgainst()),
+                dto.numberOfOpenCards(),
+                dto.numberOfRoundsPlayed(),
+                PossibleActions.fromNames(dto.possibleActions()).mask()
+        );
+    }
+
+    private static UUID uuidOf(Player player) {
+        return player != null ? player.getUuid() : null;
+    }
+
+    private static HandResult resultFromDto(IntelLogEntryDto dto, Map<UUID, Player> players) {
+        if(dto.resultPoints() == null) return null;
+        if(dto.winner() == null) return HandResult.ofDraw();
+        return HandResult.of(players.get(dto.winner()), HandPoints.fromIntValue(dto.resultPoints()));
+    }
+}
@@ -28,7 +28,8 @@ import java.util.List;
 import java.util.Set;
 
 public record HandDto(CardDto vira, List<CardDto> dealtCards, List<CardDto> openCards,
-                      List<RoundDto> roundsPlayed, List<IntelDto> history, Set<String> possibleActions,
+                      List<RoundDto> roundsPlayed, List<IntelDto> history, List<IntelLogEntryDto> intelLog,
+                      Set<String> possibleActions,
                       PlayerDto firstToPlay, PlayerDto lastToPlay, PlayerDto currentPlayer, PlayerDto lastBetRaiser, PlayerDto eventPlayer,
                       CardDto cartToPlayAgainst, int points, int pointsProposal, PlayerDto winner, String state) {
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand.dtos;
+
+import com.bueno.domain.usecases.game.dtos.PlayerDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+//Players' cards are bitmasks over the cards dealt in the hand, and players is only present when they could not be
+//masked. A null resultPoints means that the hand had no result yet.
+public record IntelLogEntryDto(Instant timestamp, String event, UUID eventPlayer, UUID currentPlayer,
+                               UUID firstToPlay, UUID lastToPlay, int firstToPlayScore, int lastToPlayScore,
+                               long firstToPlayCards, long lastToPlayCards, List<PlayerDto> players,
+                               int points, int pointsProposal, UUID winner, Integer resultPoints,
+                               CardDto cardToPlayAgainst, int numberOfOpenCards, int numberOfRoundsPlayed,
+                               Set<String> possibleActions) {
+}
@@ -26,6 +26,7 @@ import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.intel.converters.CardConverter;
 import com.bueno.domain.usecases.intel.converters.IntelConverter;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
+import com.bueno.domain.usecases.intel.dtos.IntelSinceCursorDto;
 import com.bueno.domain.usecases.intel.dtos.IntelSinceDto;
 import com.bueno.domain.usecases.intel.dtos.OwnedCardsDto;
 import com.bueno.domain.usecases.intel.dtos.PlayerTurnDto;
@@ -54,6 +55,16 @@ public class HandleIntelUseCase {
         return new IntelSinceDto(lastIntelTimestamp, intelSince);
     }
 
+    public IntelSinceCursorDto findIntelSince(UUID uuid, long cursor){
+        if(cursor < 0) throw new IllegalArgumentException("Cursor must not be negative.");
+        final var game = getGameOrThrow(uuid);
+        final var intelSince = game.getIntelSince(cursor).stream()
+                .map(IntelConverter::toDto)
+                .collect(Collectors.toList());
+        final long nextCursor = Math.max(cursor, game.getIntelSequence());
+        return new IntelSinceCursorDto(cursor, nextCursor, intelSince);
+    }
+
     public IntelDto findLastIntel(UUID uuid){
         final var game = getGameOrThrow(uuid);
         return IntelConverter.toDto(game.getIntel());
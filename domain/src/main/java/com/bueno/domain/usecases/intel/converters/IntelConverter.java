@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.intel.converters;
 
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleActions;
 import com.bueno.domain.usecases.game.dtos.PlayerDto;
 import com.bueno.domain.usecases.intel.dtos.IntelDto;
 
@@ -56,7 +57,7 @@ public class IntelConverter {
                 intel.event().orElse(null),
                 intel.eventPlayerUuid().orElse(null),
                 intel.eventPlayerUsername().orElse(null),
-                intel.possibleActions()
+                intel.possibleActions().names()
         );
     }
 
@@ -90,12 +91,12 @@ public class IntelConverter {
                 dto.event(),
                 dto.eventPlayerUuid(),
                 dto.eventPlayerUsername(),
-                dto.possibleActions()
+                PossibleActions.fromNames(dto.possibleActions())
         );
     }
 
 
-    private static PlayerDto ofPlayerIntel(Intel.PlayerIntel playerIntel){
+    public static PlayerDto ofPlayerIntel(Intel.PlayerIntel playerIntel){
         final var playerCards = playerIntel.getCards().stream()
                 .map(CardConverter::toDto)
                 .collect(Collectors.toList());
@@ -108,7 +109,7 @@ public class IntelConverter {
                 playerCards);
     }
 
-    private static Intel.PlayerIntel ofPlayerDto(PlayerDto dto){
+    public static Intel.PlayerIntel ofPlayerDto(PlayerDto dto){
         final var playerCards = dto.cards().stream()
                 .map(CardConverter::fromDto)
                 .collect(Collectors.toList());
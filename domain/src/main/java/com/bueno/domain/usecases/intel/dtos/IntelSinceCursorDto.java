@@ -0,0 +1,34 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.intel.dtos;
+
+import java.util.List;
+import java.util.Objects;
+
+//The intel in the list have sequence numbers from cursor to nextCursor - 1. The next request should use nextCursor.
+public record IntelSinceCursorDto(long cursor, long nextCursor, List<IntelDto> intelSinceCursor) {
+
+    public IntelSinceCursorDto(long cursor, long nextCursor, List<IntelDto> intelSinceCursor) {
+        this.cursor = cursor;
+        this.nextCursor = nextCursor;
+        this.intelSinceCursor = Objects.requireNonNull(intelSinceCursor);
+    }
+}
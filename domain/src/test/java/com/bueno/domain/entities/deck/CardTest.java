@@ -20,6 +20,7 @@
 
 package com.bueno.domain.entities.deck;
 
+import com.bueno.spi.model.CardValues;
 import org.assertj.core.api.SoftAssertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -28,6 +29,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -206,4 +208,11 @@ class CardTest {
         final Card zap = Card.of(Rank.THREE, Suit.CLUBS);
         assertThat(zap.compareValueTo(copas, vira)).isPositive();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should not get card of invalid index")
+    void shouldNotGetCardOfInvalidIndex() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Card.ofIndex(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> Card.ofIndex(CardValues.NUMBER_OF_INDEXES));
+    }
+}
@@ -26,7 +26,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -89,4 +92,54 @@ class DeckTest {
         softly.assertThat(deck.size()).as("Number of remaining cards in the deck").isEqualTo(39);
         softly.assertAll();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should have all 40 cards again after reset")
+    void shouldHaveAll40CardsAgainAfterReset() {
+        deck.take(7);
+        deck.reset();
+        assertEquals(40, deck.size());
+    }
+
+    @Test
+    @DisplayName("Should throw if random generator is null")
+    void shouldThrowIfRandomGeneratorIsNull() {
+        assertThrows(NullPointerException.class, () -> new Deck(null));
+    }
+
+    @Test
+    @DisplayName("Should shuffle in the same order if random generators have the same seed")
+    void shouldShuffleInTheSameOrderIfRandomGeneratorsHaveTheSameSeed() {
+        final Deck first = new Deck(new SplittableRandom(42));
+        final Deck second = new Deck(new SplittableRandom(42));
+        first.shuffle();
+        second.shuffle();
+        assertThat(first.take(40)).isEqualTo(second.take(40));
+    }
+
+    @Test
+    @DisplayName("Should deal the same cards after reset with random generator of same seed")
+    void shouldDealTheSameCardsAfterResetWithRandomGeneratorOfSameSeed() {
+        final Deck reused = new Deck(new SplittableRandom(42));
+        reused.deal();
+        reused.reset(new SplittableRandom(7));
+        assertThat(reused.deal()).isEqualTo(new Deck(new SplittableRandom(7)).deal());
+    }
+
+    @Test
+    @DisplayName("Should not deal repeated cards")
+    void shouldNotDealRepeatedCards() {
+        final Deal deal = new Deck(new SplittableRandom(42)).deal();
+        final Set<Card> cards = new HashSet<>(deal.firstToPlayCards());
+        cards.addAll(deal.lastToPlayCards());
+        cards.add(deal.vira());
+        assertEquals(7, cards.size());
+    }
+
+    @Test
+    @DisplayName("Should throw if taking more cards than available")
+    void shouldThrowIfTakingMoreCardsThanAvailable() {
+        deck.take(38);
+        assertThrows(IndexOutOfBoundsException.class, () -> deck.take(3));
+    }
+}
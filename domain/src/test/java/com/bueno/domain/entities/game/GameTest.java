@@ -21,6 +21,7 @@
 package com.bueno.domain.entities.game;
 
 import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deal;
 import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
@@ -39,6 +40,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -162,6 +164,33 @@ class GameTest {
         assertThat(sut.getIntelSince(firstHandIntel.timestamp()).size()).isEqualTo(6);
     }
 
+    @Test
+    @DisplayName("Should get intel after sequence number between hands")
+    void shouldGetIntelAfterSequenceNumberBetweenHands() {
+        final long firstHandSequence = sut.getIntelSequence();
+        final Hand hand = sut.currentHand();
+
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.CLUBS));
+        hand.playSecondCard(player2, Card.of(Rank.JACK, Suit.CLUBS));
+        hand.playFirstCard(player1, Card.of(Rank.KING, Suit.SPADES));
+        hand.playSecondCard(player2, Card.closed());
+        sut.prepareNewHand();
+        final Hand newHand = sut.currentHand();
+        newHand.playFirstCard(player2, Card.of(Rank.KING, Suit.CLUBS));
+
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.getIntelSince(firstHandSequence)).hasSize(6);
+        softly.assertThat(sut.getIntelSince(firstHandSequence + 4)).containsExactlyElementsOf(sut.getIntelSince(null).subList(5, 7));
+        softly.assertThat(sut.getIntelSince(sut.getIntelSequence())).isEmpty();
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not accept negative intel sequence number")
+    void shouldNotAcceptNegativeIntelSequenceNumber() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.getIntelSince(-1L));
+    }
+
     @Test
     @DisplayName("Should games with same uuid be equal")
     void shouldGamesWithSameUuidBeEqual() {
@@ -190,4 +219,47 @@ class GameTest {
 
         assertThat(new Game(player1, player2, uuid, new Deck()).toString()).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should prepare hands with the cards of the deal source")
+    void shouldPrepareHandsWithTheCardsOfTheDealSource() {
+        final Player first = Player.of(UUID.randomUUID(), "First");
+        final Player second = Player.of(UUID.randomUUID(), "Second");
+        final Deal deal = new Deal(Card.of(Rank.ACE, Suit.HEARTS),
+                List.of(Card.of(Rank.TWO, Suit.CLUBS), Card.of(Rank.THREE, Suit.CLUBS), Card.of(Rank.FOUR, Suit.CLUBS)),
+                List.of(Card.of(Rank.TWO, Suit.SPADES), Card.of(Rank.THREE, Suit.SPADES), Card.of(Rank.FOUR, Suit.SPADES)));
+
+        final Game game = new Game(first, second, UUID.randomUUID(), () -> deal);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(game.currentHand().getVira()).as("Vira").isEqualTo(deal.vira());
+        softly.assertThat(first.getCards()).as("First to play cards").isEqualTo(deal.firstToPlayCards());
+        softly.assertThat(second.getCards()).as("Last to play cards").isEqualTo(deal.lastToPlayCards());
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should discard hands prepared after the snapshot when restoring it")
+    void shouldDiscardHandsPreparedAfterTheSnapshotWhenRestoringIt() {
+        final Player first = Player.of(UUID.randomUUID(), "First");
+        final Player second = Player.of(UUID.randomUUID(), "Second");
+        final Game game = new Game(first, second, UUID.randomUUID(), new Deck());
+        final Game.Snapshot snapshot = game.snapshot();
+        final List<Card> cards = List.copyOf(first.getCards());
+        final long intelSequence = game.getIntelSequence();
+
+        game.currentHand().raise(first);
+        game.currentHand().quit(second);
+        game.updateScores();
+        game.prepareNewHand();
+        game.restore(snapshot);
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(game.handsPlayed()).as("Number of hands").isOne();
+        softly.assertThat(game.currentHand().getResult()).as("Hand result").isEmpty();
+        softly.assertThat(first.getScore()).as("First to play score").isZero();
+        softly.assertThat(first.getCards()).as("First to play cards").isEqualTo(cards);
+        softly.assertThat(game.getIntelSequence()).as("Intel sequence").isEqualTo(intelSequence);
+        softly.assertAll();
+    }
+}
@@ -25,6 +25,8 @@ import com.bueno.domain.entities.deck.Deck;
 import com.bueno.domain.entities.deck.Rank;
 import com.bueno.domain.entities.deck.Suit;
 import com.bueno.domain.entities.game.GameRuleViolationException;
+import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.IntelHistoryPolicy;
 import com.bueno.domain.entities.intel.PossibleAction;
 import com.bueno.domain.entities.player.Player;
 import org.assertj.core.api.SoftAssertions;
@@ -291,6 +293,13 @@ class HandTest {
             sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.CLUBS));
             assertThat(sut.getPossibleActions()).isEqualTo(possibleActions);
         }
+
+        @Test
+        @DisplayName("Should not allow changing possible actions through the returned set")
+        void shouldNotAllowChangingPossibleActionsThroughTheReturnedSet() {
+            assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.getPossibleActions().clear());
+            assertThat(sut.getPossibleActions()).isEqualTo(EnumSet.of(PLAY, RAISE));
+        }
     }
 
     @Nested
@@ -736,6 +745,127 @@ class HandTest {
         }
     }
 
+    @Nested
+    @DisplayName("When recording intel ")
+    class IntelHistoryTest {
+
+        @Test
+        @DisplayName("Should keep only the last intel if recording last only")
+        void shouldKeepOnlyTheLastIntelIfRecordingLastOnly() {
+            final Hand hand = new Hand(player1, player2, Card.of(Rank.SEVEN, Suit.CLUBS), IntelHistoryPolicy.LAST_ONLY);
+            hand.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(hand.getIntelHistory()).hasSize(1);
+            softly.assertThat(hand.getLastIntel().event()).contains("PLAY");
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should build last intel on demand if recording none")
+        void shouldBuildLastIntelOnDemandIfRecordingNone() {
+            final Hand hand = new Hand(player1, player2, Card.of(Rank.SEVEN, Suit.CLUBS), IntelHistoryPolicy.NONE);
+            hand.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(hand.getIntelHistory()).isEmpty();
+            softly.assertThat(hand.getLastIntel().event()).contains("PLAY");
+            softly.assertThat(hand.getLastIntel().cardToPlayAgainst()).contains(Card.of(Rank.THREE, Suit.SPADES));
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should discard recorded intel when changing to a policy that records none")
+        void shouldDiscardRecordedIntelWhenChangingToAPolicyThatRecordsNone() {
+            sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            sut.setIntelHistoryPolicy(IntelHistoryPolicy.NONE);
+            assertThat(sut.getIntelHistory()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should keep the open cards of each event in intel history")
+        void shouldKeepTheOpenCardsOfEachEventInIntelHistory() {
+            final Card vira = Card.of(Rank.SEVEN, Suit.CLUBS);
+            final Card card = Card.of(Rank.THREE, Suit.SPADES);
+            sut.playFirstCard(player1, card);
+            final List<Intel> history = sut.getIntelHistory();
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(history).hasSize(2);
+            softly.assertThat(history.get(0).openCards()).containsExactly(vira);
+            softly.assertThat(history.get(1).openCards()).containsExactly(vira, card);
+            softly.assertThat(history.get(1).cardToPlayAgainst()).contains(card);
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should get the same last intel until a new event happens")
+        void shouldGetTheSameLastIntelUntilANewEventHappens() {
+            final Intel intel = sut.getLastIntel();
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.getLastIntel()).isSameAs(intel);
+            sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            softly.assertThat(sut.getLastIntel()).isNotSameAs(intel);
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should not accept null intel history policy")
+        void shouldNotAcceptNullIntelHistoryPolicy() {
+            assertThatNullPointerException().isThrownBy(() -> sut.setIntelHistoryPolicy(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("When restoring a snapshot ")
+    class SnapshotTest {
+
+        @Test
+        @DisplayName("Should undo played cards and raises when restoring a snapshot")
+        void shouldUndoPlayedCardsAndRaisesWhenRestoringASnapshot() {
+            final Hand.Snapshot snapshot = sut.snapshot();
+            final int historySize = sut.getIntelHistory().size();
+            sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            sut.raise(player2);
+            sut.accept(player1);
+            sut.restore(snapshot);
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.getOpenCards()).containsExactly(Card.of(Rank.SEVEN, Suit.CLUBS));
+            softly.assertThat(sut.getCardToPlayAgainst()).isEmpty();
+            softly.assertThat(sut.getPoints()).isEqualTo(ONE);
+            softly.assertThat(sut.getCurrentPlayer()).isEqualTo(player1);
+            softly.assertThat(sut.getPossibleActions()).isEqualTo(EnumSet.of(PLAY, RAISE));
+            softly.assertThat(sut.getIntelHistory()).hasSize(historySize);
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should undo a finished round when restoring a snapshot")
+        void shouldUndoAFinishedRoundWhenRestoringASnapshot() {
+            final Hand.Snapshot snapshot = sut.snapshot();
+            sut.playFirstCard(player1, Card.of(Rank.THREE, Suit.SPADES));
+            sut.playSecondCard(player2, Card.of(Rank.FOUR, Suit.SPADES));
+            sut.restore(snapshot);
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.getRoundsPlayed()).isEmpty();
+            softly.assertThat(sut.getState()).isEqualTo(NoCard.INSTANCE);
+            softly.assertAll();
+        }
+
+        @Test
+        @DisplayName("Should be able to restore the same snapshot many times")
+        void shouldBeAbleToRestoreTheSameSnapshotManyTimes() {
+            final Hand.Snapshot snapshot = sut.snapshot();
+            sut.raise(player1);
+            sut.quit(player2);
+            sut.restore(snapshot);
+            sut.raise(player1);
+            sut.restore(snapshot);
+            final SoftAssertions softly = new SoftAssertions();
+            softly.assertThat(sut.getResult()).isEmpty();
+            softly.assertThat(sut.getPointsProposal()).isNull();
+            softly.assertThat(sut.getCurrentPlayer()).isEqualTo(player1);
+            softly.assertAll();
+        }
+    }
+
     private Player getPossibleWinner() {
         return sut.getResult().flatMap(HandResult::getWinner).orElse(null);
     }
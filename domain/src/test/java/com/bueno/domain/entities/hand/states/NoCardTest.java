@@ -27,7 +27,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class NoCardTest {
@@ -37,21 +40,29 @@ class NoCardTest {
     @Test
     @DisplayName("Should throw if plays second card in no card state")
     void shouldThrowIfPlaysSecondCardInNoCardState() {
-        NoCard sut = new NoCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(null, null));
+        NoCard sut = NoCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(hand, null, null));
     }
 
     @Test
     @DisplayName("Should throw if accepts request or mao de onze in no card state")
     void shouldThrowIfAcceptsRequestOrMaoDeOnzeInNoCardState() {
-        NoCard sut = new NoCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.accept(null));
+        NoCard sut = NoCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.accept(hand, null));
     }
 
     @Test
     @DisplayName("Should throw if quits request or mao de onze in no card state")
     void shouldThrowIfQuitsRequestOrMaoDeOnzeInNoCardState() {
-        NoCard sut = new NoCard(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.quit(null));
+        NoCard sut = NoCard.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.quit(hand, null));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should allow raising when entering no card state if bet can be raised")
+    void shouldAllowRaisingWhenEnteringNoCardStateIfBetCanBeRaised() {
+        when(hand.canRaiseBet()).thenReturn(true);
+        NoCard.INSTANCE.enter(hand);
+        verify(hand).setPossibleActions(PLAY.mask() | RAISE.mask());
+    }
+}
@@ -27,7 +27,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class WaitingRaiseResponseTest {
@@ -37,14 +40,22 @@ class WaitingRaiseResponseTest {
     @Test
     @DisplayName("Should throw if plays first card in waiting raise response state")
     void shouldThrowIfPlaysFirstCardInWaitingRaiseResponseState() {
-        WaitingRaiseResponse sut = new WaitingRaiseResponse(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playFirstCard(null, null));
+        WaitingRaiseResponse sut = WaitingRaiseResponse.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playFirstCard(hand, null, null));
     }
 
     @Test
     @DisplayName("Should throw if plays second card in waiting raise response state")
     void shouldThrowIfPlaysSecondCardInWaitingRaiseResponseState() {
-        WaitingRaiseResponse sut = new WaitingRaiseResponse(hand);
-        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(null, null));
+        WaitingRaiseResponse sut = WaitingRaiseResponse.INSTANCE;
+        assertThatIllegalStateException().isThrownBy(() -> sut.playSecondCard(hand, null, null));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should allow raising when entering waiting raise response state if bet can be raised")
+    void shouldAllowRaisingWhenEnteringWaitingRaiseResponseStateIfBetCanBeRaised() {
+        when(hand.canRaiseBet()).thenReturn(true);
+        WaitingRaiseResponse.INSTANCE.enter(hand);
+        verify(hand).setPossibleActions(ACCEPT.mask() | QUIT.mask() | RAISE.mask());
+    }
+}
@@ -56,7 +56,7 @@ class IntelTest {
 
     @BeforeEach
     void setUp() {
-        lenient().when(hand.getPossibleActions()).thenReturn(EnumSet.of(PossibleAction.ACCEPT));
+        lenient().when(hand.getPossibleActions()).thenReturn(PossibleActions.of(PossibleAction.ACCEPT));
         lenient().when(hand.getPoints()).thenReturn(HandPoints.ONE);
         lenient().when(hand.getFirstToPlay()).thenReturn(p1);
         lenient().when(hand.getLastToPlay()).thenReturn(p2);
@@ -158,7 +158,7 @@ class IntelTest {
         softly.assertThat(sut.eventPlayerUuid().orElseThrow()).isEqualTo(p1.getUuid());
         softly.assertThat(sut.event().orElseThrow()).isEqualTo("PLAY");
         softly.assertThat(sut.players()).isEqualTo(List.of(new PlayerIntel (p1), new PlayerIntel(p2)));
-        softly.assertThat(sut.possibleActions()).hasSameElementsAs(List.of("PLAY", "RAISE"));
+        softly.assertThat(sut.possibleActions()).containsExactly(PossibleAction.PLAY, PossibleAction.RAISE);
         softly.assertAll();
     }
 
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.entities.intel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.bueno.domain.entities.intel.PossibleAction.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PossibleActionsTest {
+
+    @Test
+    @DisplayName("Should be equal to the enum set of the same actions")
+    void shouldBeEqualToTheEnumSetOfTheSameActions() {
+        final PossibleActions sut = PossibleActions.of(RAISE, PLAY);
+        assertThat(sut).isEqualTo(EnumSet.of(PLAY, RAISE));
+        assertThat(sut.hashCode()).isEqualTo(EnumSet.of(PLAY, RAISE).hashCode());
+        assertThat(sut).containsExactly(PLAY, RAISE);
+        assertThat(sut.mask()).isEqualTo(PLAY.mask() | RAISE.mask());
+    }
+
+    @Test
+    @DisplayName("Should share the set of the same mask")
+    void shouldShareTheSetOfTheSameMask() {
+        assertThat(PossibleActions.of(ACCEPT, QUIT)).isSameAs(PossibleActions.of(ACCEPT.mask() | QUIT.mask()));
+        assertThat(PossibleActions.of()).isSameAs(PossibleActions.none()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should convert to and from action names")
+    void shouldConvertToAndFromActionNames() {
+        final PossibleActions sut = PossibleActions.fromNames(List.of("ACCEPT", "QUIT", "RAISE"));
+        assertThat(sut).containsExactly(RAISE, ACCEPT, QUIT);
+        assertThat(sut.names()).isEqualTo(Set.of("ACCEPT", "QUIT", "RAISE"));
+        assertThat(PossibleActions.fromNames(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should share the immutable names of the same actions")
+    void shouldShareTheImmutableNamesOfTheSameActions() {
+        final Set<String> names = PossibleActions.of(PLAY, RAISE).names();
+        assertThat(PossibleActions.fromNames(names).names()).isSameAs(names);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> names.add("QUIT"));
+    }
+
+    @Test
+    @DisplayName("Should not accept invalid masks")
+    void shouldNotAcceptInvalidMasks() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PossibleActions.of(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> PossibleActions.of(1 << values().length));
+    }
+
+    @Test
+    @DisplayName("Should not allow changing the actions")
+    void shouldNotAllowChangingTheActions() {
+        final PossibleActions sut = PossibleActions.of(PLAY);
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> sut.add(RAISE));
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(sut::clear);
+        assertThat(sut).containsExactly(PLAY);
+    }
+}
@@ -172,6 +172,21 @@ class PlayerTest {
         assertThat(Player.ofBot("Test1")).isNotEqualTo(Player.ofBot("Test1"));
     }
 
+    @Test
+    @DisplayName("Should restore cards and score from a snapshot")
+    void shouldRestoreCardsAndScoreFromASnapshot() {
+        final Player sut = Player.ofBot("Bot test");
+        sut.setCards(cards);
+        final Player.Snapshot snapshot = sut.snapshot();
+        sut.play(c1);
+        sut.addScore(HandPoints.THREE);
+        sut.restore(snapshot);
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(sut.getCards()).isEqualTo(cards);
+        softly.assertThat(sut.getScore()).isZero();
+        softly.assertAll();
+    }
+
     @Test
     @DisplayName("Should correctly toString")
     void shouldCorrectlyToString() {
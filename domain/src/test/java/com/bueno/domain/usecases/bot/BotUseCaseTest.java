@@ -32,11 +32,13 @@ import com.bueno.domain.usecases.bot.providers.BotProviders;
 import com.bueno.domain.usecases.game.repos.GameRepository;
 import com.bueno.domain.usecases.game.repos.GameResultRepository;
 import com.bueno.domain.usecases.hand.HandResultRepository;
+import com.bueno.spi.model.GameIntel;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -124,8 +126,8 @@ class BotUseCaseTest {
     void shouldFirstHandleMaoDeOnze() {
         when(maoDeOnzeHandler.shouldHandle(intel)).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(maoDeOnzeHandler, times(1)).handle(intel, player);
-        verify(raiseHandler, times(0)).handle(intel, player);
+        verify(maoDeOnzeHandler, times(1)).handle(eq(intel), eq(player), any());
+        verify(raiseHandler, times(0)).handle(eq(intel), eq(player), any());
     }
 
     @Test
@@ -134,8 +136,8 @@ class BotUseCaseTest {
         when(maoDeOnzeHandler.shouldHandle(intel)).thenReturn(false);
         when(raiseHandler.shouldHandle(intel)).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(raiseHandler, times(1)).handle(intel, player);
-        verify(cardPlayingHandler, times(0)).handle(intel, player);
+        verify(raiseHandler, times(1)).handle(eq(intel), eq(player), any());
+        verify(cardPlayingHandler, times(0)).handle(eq(intel), eq(player), any());
     }
 
     @Test
@@ -144,8 +146,8 @@ class BotUseCaseTest {
         when(raiseHandler.shouldHandle(intel)).thenReturn(false);
         when(cardPlayingHandler.shouldHandle(intel)).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(cardPlayingHandler, times(1)).handle(intel, player);
-        verify(raiseRequestHandler, times(0)).handle(intel, player);
+        verify(cardPlayingHandler, times(1)).handle(eq(intel), eq(player), any());
+        verify(raiseRequestHandler, times(0)).handle(eq(intel), eq(player), any());
     }
 
     @Test
@@ -153,7 +155,38 @@ class BotUseCaseTest {
     void shouldHandleIfItIsBotTurnJustBecauseItMustDecideAboutRaiseRequest() {
         when(raiseRequestHandler.shouldHandle(any())).thenReturn(true);
         sut.playWhenNecessary(game);
-        verify(raiseRequestHandler, times(1)).handle(intel, player);
+        verify(raiseRequestHandler, times(1)).handle(eq(intel), eq(player), any());
+    }
+
+    @Test
+    @DisplayName("Should share the same bot intel among the handlers of a decision")
+    void shouldShareTheSameBotIntelAmongTheHandlersOfADecision() {
+        when(raiseHandler.shouldHandle(intel)).thenReturn(true);
+        when(cardPlayingHandler.shouldHandle(intel)).thenReturn(true);
+        sut.playNextDecision(game);
+
+        final ArgumentCaptor<GameIntel> raiseIntel = ArgumentCaptor.forClass(GameIntel.class);
+        final ArgumentCaptor<GameIntel> cardIntel = ArgumentCaptor.forClass(GameIntel.class);
+        verify(raiseHandler).handle(eq(intel), eq(player), raiseIntel.capture());
+        verify(cardPlayingHandler).handle(eq(intel), eq(player), cardIntel.capture());
+        assertThat(cardIntel.getValue()).isNotNull().isSameAs(raiseIntel.getValue());
+    }
+
+    @Test
+    @DisplayName("Should not make next decision if it is not bot turn")
+    void shouldNotMakeNextDecisionIfItIsNotBotTurn() {
+        when(player.isBot()).thenReturn(false);
+        assertThat(sut.playNextDecision(game)).isEmpty();
+        verifyNoInteractions(cardPlayingHandler);
+    }
+
+    @Test
+    @DisplayName("Should make a single decision without reloading game when asked for next decision")
+    void shouldMakeASingleDecisionWithoutReloadingGameWhenAskedForNextDecision() {
+        when(cardPlayingHandler.shouldHandle(intel)).thenReturn(true);
+        sut.playNextDecision(game);
+        verify(cardPlayingHandler, times(1)).handle(eq(intel), eq(player), any());
+        verify(gameRepository, never()).findByPlayerUuid(any());
     }
 
     @Test
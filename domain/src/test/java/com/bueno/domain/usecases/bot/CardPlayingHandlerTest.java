@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleActions;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.CardPlayingHandler;
 import com.bueno.domain.usecases.hand.PlayCardUseCase;
@@ -37,9 +38,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Set;
 import java.util.UUID;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -67,7 +68,7 @@ class CardPlayingHandlerTest {
     @Test
     @DisplayName("Should not handle if can not play")
     void shouldNotHandleIfCanNotPlay() {
-        when(intel.possibleActions()).thenReturn(Set.of("RAISE"));
+        when(intel.possibleActions()).thenReturn(PossibleActions.of(RAISE));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
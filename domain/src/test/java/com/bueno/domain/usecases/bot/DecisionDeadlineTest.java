@@ -0,0 +1,236 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.BotServiceProvider;
+import com.bueno.spi.service.StatefulBotServiceProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.bueno.spi.model.CardRank.*;
+import static com.bueno.spi.model.CardSuit.*;
+import static org.assertj.core.api.Assertions.*;
+
+class DecisionDeadlineTest {
+
+    private GameIntel intel;
+
+    @BeforeEach
+    void setUp() {
+        intel = GameIntel.StepBuilder.with()
+                .gameInfo(List.of(), List.of(), TrucoCard.of(FOUR, HEARTS), 1)
+                .botInfo(List.of(TrucoCard.of(THREE, CLUBS), TrucoCard.of(FOUR, SPADES), TrucoCard.of(KING, DIAMONDS)), 0)
+                .opponentScore(0)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should not accept non positive time budget")
+    void shouldNotAcceptNonPositiveTimeBudget() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new DecisionDeadline(Duration.ZERO));
+        assertThatIllegalArgumentException().isThrownBy(() -> new DecisionDeadline(Duration.ofMillis(-1)));
+    }
+
+    @Test
+    @DisplayName("Should return the bot decision if it decides in time")
+    void shouldReturnTheBotDecisionIfItDecidesInTime() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofSeconds(10));
+        final TestBot bot = new TestBot(0);
+
+        assertThat(sut.enforceOn(bot).chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(THREE, CLUBS)));
+        assertThat(bot.timeBudget).contains(Duration.ofSeconds(10));
+        assertThat(sut.getTimeouts(bot.getName())).isZero();
+    }
+
+    @Test
+    @DisplayName("Should take the fallback decision and count the timeout if the bot is late")
+    void shouldTakeTheFallbackDecisionAndCountTheTimeoutIfTheBotIsLate() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofMillis(20));
+        final BotServiceProvider timedBot = sut.enforceOn(new TestBot(10_000));
+
+        assertThat(timedBot.chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+        assertThat(timedBot.getRaiseResponse(intel)).isZero();
+        assertThat(sut.getTimeouts("TestBot")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should take the decision of the given fallback bot")
+    void shouldTakeTheDecisionOfTheGivenFallbackBot() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofMillis(20), new TestBot(0));
+        assertThat(sut.enforceOn(new TestBot(10_000)).getRaiseResponse(intel)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should rethrow the exceptions thrown by the bot")
+    void shouldRethrowTheExceptionsThrownByTheBot() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofSeconds(10));
+        assertThatIllegalStateException().isThrownBy(() -> sut.enforceOn(new TestBot(0)).decideIfRaises(intel));
+    }
+
+    @Test
+    @DisplayName("Should take the fallback decision without calling the bot while its late decision is running")
+    void shouldTakeTheFallbackDecisionWithoutCallingTheBotWhileItsLateDecisionIsRunning() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofMillis(20));
+        final StuckBot bot = new StuckBot();
+        try {
+            assertThat(sut.enforceOn(bot).chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+            assertThat(sut.enforceOn(bot).chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+            assertThat(bot.calls).hasValue(1);
+            assertThat(sut.getTimeouts("StuckBot")).isEqualTo(2);
+        } finally {
+            bot.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Should not take the fallback decision in a game because the same bot is late in another game")
+    void shouldNotTakeTheFallbackDecisionInAGameBecauseTheSameBotIsLateInAnotherGame() throws Exception {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofMillis(50));
+        final StuckBot lateGameBot = new StuckBot();
+        final StuckBot otherGameBot = new StuckBot();
+        otherGameBot.release();
+        try {
+            final CompletableFuture<CardToPlay> lateGame = CompletableFuture.supplyAsync(() -> sut.enforceOn(lateGameBot).chooseCard(intel));
+            assertThat(lateGame.get()).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+
+            final CompletableFuture<CardToPlay> otherGame = CompletableFuture.supplyAsync(() -> sut.enforceOn(otherGameBot).chooseCard(intel));
+            assertThat(otherGame.get()).isEqualTo(CardToPlay.of(TrucoCard.of(THREE, CLUBS)));
+            assertThat(sut.enforceOn(lateGameBot).chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+            assertThat(lateGameBot.calls).hasValue(1);
+            assertThat(otherGameBot.calls).hasValue(1);
+            assertThat(sut.getTimeouts("StuckBot")).isEqualTo(2);
+        } finally {
+            lateGameBot.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Should take the fallback decision in every game of a late bot if late decisions are scoped by name")
+    void shouldTakeTheFallbackDecisionInEveryGameOfALateBotIfLateDecisionsAreScopedByName() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofMillis(20), DecisionDeadline.Scope.BOT_NAME);
+        final StuckBot lateGameBot = new StuckBot();
+        final StuckBot otherGameBot = new StuckBot();
+        otherGameBot.release();
+        try {
+            assertThat(sut.enforceOn(lateGameBot).chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+            assertThat(sut.enforceOn(otherGameBot).chooseCard(intel)).isEqualTo(CardToPlay.of(TrucoCard.of(FOUR, SPADES)));
+            assertThat(otherGameBot.calls).hasValue(0);
+            assertThat(sut.getTimeouts("StuckBot")).isEqualTo(2);
+        } finally {
+            lateGameBot.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip the callbacks of stateful bots while their late decision is running")
+    void shouldSkipTheCallbacksOfStatefulBotsWhileTheirLateDecisionIsRunning() {
+        final DecisionDeadline sut = new DecisionDeadline(Duration.ofMillis(20));
+        final StuckBot bot = new StuckBot();
+        try {
+            final StatefulBotServiceProvider timedBot = (StatefulBotServiceProvider) sut.enforceOn(bot);
+            timedBot.onHandEnd(1, 0);
+            timedBot.chooseCard(intel);
+            timedBot.onHandEnd(2, 0);
+            assertThat(bot.score).isOne();
+        } finally {
+            bot.release();
+        }
+    }
+
+    //Ignores interruptions and keeps deciding until released, like a bot stuck in a loop.
+    private static class StuckBot extends TestBot implements StatefulBotServiceProvider {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile int score;
+
+        StuckBot() {
+            super(0);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            calls.incrementAndGet();
+            while (released.getCount() > 0) Thread.onSpinWait();
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public void onHandEnd(int score, int opponentScore) {
+            this.score = score;
+        }
+    }
+
+    private static class TestBot implements BotServiceProvider {
+        private final long delayInMillis;
+        private Optional<Duration> timeBudget = Optional.empty();
+
+        TestBot(long delayInMillis) {
+            this.delayInMillis = delayInMillis;
+        }
+
+        private void waitDelay() {
+            try {
+                Thread.sleep(delayInMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return true;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            throw new IllegalStateException("Bot failure.");
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            timeBudget = intel.getTimeBudget();
+            waitDelay();
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            waitDelay();
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.bot;
+
+import com.bueno.spi.service.BotServiceProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class GameBotsTest {
+
+    private final GameBots sut = new GameBots(2, name -> mock(BotServiceProvider.class));
+
+    @Test
+    @DisplayName("Should not accept non positive capacity")
+    void shouldNotAcceptNonPositiveCapacity() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new GameBots(0, name -> mock(BotServiceProvider.class)));
+    }
+
+    @Test
+    @DisplayName("Should keep the same bot instance along the game")
+    void shouldKeepTheSameBotInstanceAlongTheGame() {
+        final UUID gameUuid = UUID.randomUUID();
+        assertThat(sut.botOf(gameUuid, "Bot")).isSameAs(sut.botOf(gameUuid, "Bot"));
+    }
+
+    @Test
+    @DisplayName("Should load a bot instance for each game")
+    void shouldLoadABotInstanceForEachGame() {
+        assertThat(sut.botOf(UUID.randomUUID(), "Bot")).isNotSameAs(sut.botOf(UUID.randomUUID(), "Bot"));
+    }
+
+    @Test
+    @DisplayName("Should load the bot again after the game is forgotten")
+    void shouldLoadTheBotAgainAfterTheGameIsForgotten() {
+        final UUID gameUuid = UUID.randomUUID();
+        final BotServiceProvider bot = sut.botOf(gameUuid, "Bot");
+        sut.forget(gameUuid);
+        assertThat(sut.botOf(gameUuid, "Bot")).isNotSameAs(bot);
+    }
+
+    @Test
+    @DisplayName("Should drop the game not played for the longest time when full")
+    void shouldDropTheGameNotPlayedForTheLongestTimeWhenFull() {
+        final UUID oldGame = UUID.randomUUID();
+        final UUID recentGame = UUID.randomUUID();
+        final BotServiceProvider oldBot = sut.botOf(oldGame, "Bot");
+        final BotServiceProvider recentBot = sut.botOf(recentGame, "Bot");
+        sut.botOf(oldGame, "Bot");
+        sut.botOf(UUID.randomUUID(), "Bot");
+
+        assertThat(sut.botOf(oldGame, "Bot")).isSameAs(oldBot);
+        assertThat(sut.botOf(recentGame, "Bot")).isNotSameAs(recentBot);
+    }
+}
@@ -21,6 +21,7 @@
 package com.bueno.domain.usecases.bot;
 
 import com.bueno.domain.entities.intel.Intel;
+import com.bueno.domain.entities.intel.PossibleActions;
 import com.bueno.domain.entities.player.Player;
 import com.bueno.domain.usecases.bot.handlers.RaiseHandler;
 import com.bueno.domain.usecases.hand.PointsProposalUseCase;
@@ -33,9 +34,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Set;
 import java.util.UUID;
 
+import static com.bueno.domain.entities.intel.PossibleAction.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -63,14 +64,14 @@ class RaiseHandlerTest {
     @Test
     @DisplayName("Should not handle if can not raise")
     void shouldNotHandleIfCanNotRaise() {
-        when(intel.possibleActions()).thenReturn(Set.of("PLAY"));
+        when(intel.possibleActions()).thenReturn(PossibleActions.of(PLAY));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
     @Test
     @DisplayName("Should not handle if is answering a raise request")
     void shouldNotHandleIfIsAnsweringARaiseRequest() {
-        when(intel.possibleActions()).thenReturn(Set.of("PLAY", "ACCEPT", "QUIT"));
+        when(intel.possibleActions()).thenReturn(PossibleActions.of(PLAY, ACCEPT, QUIT));
         assertThat(sut.shouldHandle(intel)).isFalse();
     }
 
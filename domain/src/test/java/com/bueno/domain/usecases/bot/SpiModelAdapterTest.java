@@ -92,4 +92,20 @@ class SpiModelAdapterTest {
         TrucoCard trucoCard = TrucoCard.of(CardRank.ACE, CardSuit.CLUBS);
         assertThat(SpiModelAdapter.toCard(trucoCard)).isEqualTo(Card.of(Rank.ACE, Suit.CLUBS));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should convert every card to TrucoCard and back")
+    void shouldConvertEveryCardToTrucoCardAndBack() {
+        when(intel.vira()).thenReturn(Card.of(Rank.FOUR, Suit.HEARTS));
+        for (Rank rank : Rank.values())
+            for (Suit suit : Suit.values()) {
+                if ((rank == Rank.HIDDEN) != (suit == Suit.HIDDEN)) continue;
+                final Card card = rank == Rank.HIDDEN ? Card.closed() : Card.of(rank, suit);
+                when(player.getCards()).thenReturn(List.of(card));
+
+                final TrucoCard trucoCard = SpiModelAdapter.toGameIntel(player, intel).getCards().get(0);
+                assertThat(trucoCard.toString()).isEqualTo(card.toString());
+                assertThat(SpiModelAdapter.toCard(trucoCard)).isSameAs(card);
+            }
+    }
+}
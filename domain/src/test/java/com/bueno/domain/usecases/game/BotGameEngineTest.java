@@ -0,0 +1,160 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.service.BotGameEngine;
+import com.bueno.spi.model.CardToPlay;
+import com.bueno.spi.model.GameIntel;
+import com.bueno.spi.model.OpponentAction;
+import com.bueno.spi.model.TrucoCard;
+import com.bueno.spi.service.StatefulBotServiceProvider;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BotGameEngineTest {
+
+    @Test
+    @DisplayName("Should not accept null game")
+    void shouldNotAcceptNullGame() {
+        assertThatNullPointerException().isThrownBy(() -> new BotGameEngine(null));
+    }
+
+    @Test
+    @DisplayName("Should not accept a game with a human player")
+    void shouldNotAcceptAGameWithAHumanPlayer() {
+        final Game game = new Game(Player.of(UUID.randomUUID(), "User"), Player.ofBot("DummyBot"));
+        assertThatIllegalArgumentException().isThrownBy(() -> new BotGameEngine(game));
+    }
+
+    @Test
+    @DisplayName("Should throw if bot service is not available")
+    void shouldThrowIfBotServiceIsNotAvailable() {
+        final Game game = new Game(Player.ofBot("NotABot"), Player.ofBot("DummyBot"));
+        assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> new BotGameEngine(game));
+    }
+
+    @Test
+    @DisplayName("Should play bot game until one of the bots wins")
+    void shouldPlayBotGameUntilOneOfTheBotsWins() {
+        final Game game = new Game(Player.ofBot("DummyBot"), Player.ofBot("DummyBot"));
+        final Player winner = new BotGameEngine(game).playToEnd();
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(game.isDone()).as("Game is done").isTrue();
+        softly.assertThat(winner.getScore()).as("Winner score").isEqualTo(Player.MAX_SCORE);
+        softly.assertThat(game.getWinner()).as("Game winner").contains(winner);
+        softly.assertAll();
+    }
+
+    @Test
+    @DisplayName("Should not play decisions after game is over")
+    void shouldNotPlayDecisionsAfterGameIsOver() {
+        final BotGameEngine sut = new BotGameEngine(new Game(Player.ofBot("DummyBot"), Player.ofBot("DummyBot")));
+        sut.playToEnd();
+        assertThatIllegalStateException().isThrownBy(sut::playNextDecision);
+    }
+
+    @Test
+    @DisplayName("Should notify stateful bots of what changed between their decisions")
+    void shouldNotifyStatefulBotsOfWhatChangedBetweenTheirDecisions() {
+        final Game game = new Game(Player.ofBot("First"), Player.ofBot("Second"));
+        final RecordingBot first = new RecordingBot();
+        final RecordingBot second = new RecordingBot();
+        new BotGameEngine(game, first, second).playToEnd();
+
+        SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(first.events.get(0)).as("Game start").isEqualTo("GAME Second");
+        softly.assertThat(first.events.get(1)).as("First hand start").startsWith("HAND");
+        softly.assertThat(first.count("HAND")).as("Hands started").isEqualTo(game.handsPlayed());
+        softly.assertThat(first.count("END")).as("Hands ended").isEqualTo(game.handsPlayed());
+        softly.assertThat(first.count("PLAY")).as("Opponent cards").isEqualTo(second.cardsPlayed);
+        softly.assertThat(first.count("WON")).as("Rounds won").isEqualTo(second.count("LOST"));
+        softly.assertThat(first.count("DREW")).as("Rounds drawn").isEqualTo(second.count("DREW"));
+        softly.assertThat(first.events.get(first.events.size() - 1))
+                .as("Last hand end").isEqualTo("END " + game.getPlayer1().getScore() + " " + game.getPlayer2().getScore());
+        softly.assertAll();
+    }
+
+    private static class RecordingBot implements StatefulBotServiceProvider {
+        private final List<String> events = new ArrayList<>();
+        private int cardsPlayed;
+
+        long count(String event) {
+            return events.stream().filter(e -> e.startsWith(event)).count();
+        }
+
+        @Override
+        public void onGameStart(String opponentName) {
+            events.add("GAME " + opponentName);
+        }
+
+        @Override
+        public void onHandStart(TrucoCard vira, List<TrucoCard> cards) {
+            events.add("HAND " + vira + " " + cards);
+        }
+
+        @Override
+        public void onOpponentAction(OpponentAction action) {
+            events.add(action.getType().name());
+        }
+
+        @Override
+        public void onRoundResult(GameIntel.RoundResult result) {
+            events.add(result.name());
+        }
+
+        @Override
+        public void onHandEnd(int score, int opponentScore) {
+            events.add("END " + score + " " + opponentScore);
+        }
+
+        @Override
+        public boolean getMaoDeOnzeResponse(GameIntel intel) {
+            return true;
+        }
+
+        @Override
+        public boolean decideIfRaises(GameIntel intel) {
+            return false;
+        }
+
+        @Override
+        public CardToPlay chooseCard(GameIntel intel) {
+            cardsPlayed++;
+            return CardToPlay.of(intel.getCards().get(0));
+        }
+
+        @Override
+        public int getRaiseResponse(GameIntel intel) {
+            return 0;
+        }
+    }
+}
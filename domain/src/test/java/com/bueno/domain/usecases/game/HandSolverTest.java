@@ -0,0 +1,111 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.deck.Deal;
+import com.bueno.domain.entities.deck.DealSource;
+import com.bueno.domain.entities.deck.Rank;
+import com.bueno.domain.entities.deck.Suit;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.service.HandSolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class HandSolverTest {
+
+    private HandSolver sut;
+    private Card vira;
+    private List<Card> manilhas;
+    private List<Card> ordinaryCards;
+
+    @BeforeEach
+    void setUp() {
+        sut = new HandSolver(12);
+        vira = Card.of(Rank.FOUR, Suit.DIAMONDS);
+        manilhas = List.of(Card.of(Rank.FIVE, Suit.CLUBS), Card.of(Rank.FIVE, Suit.HEARTS), Card.of(Rank.FIVE, Suit.SPADES));
+        ordinaryCards = List.of(Card.of(Rank.THREE, Suit.CLUBS), Card.of(Rank.TWO, Suit.HEARTS), Card.of(Rank.ACE, Suit.SPADES));
+    }
+
+    @Test
+    @DisplayName("Should first to play win the card play if holding the strongest manilhas")
+    void shouldFirstToPlayWinTheCardPlayIfHoldingTheStrongestManilhas() {
+        assertThat(sut.solve(vira, manilhas, ordinaryCards)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should last to play win the card play if holding the strongest manilhas")
+    void shouldLastToPlayWinTheCardPlayIfHoldingTheStrongestManilhas() {
+        assertThat(sut.solve(vira, ordinaryCards, manilhas)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should be a draw if both players hold cards of the same values")
+    void shouldBeADrawIfBothPlayersHoldCardsOfTheSameValues() {
+        final List<Card> firstToPlayCards = List.of(Card.of(Rank.KING, Suit.CLUBS), Card.of(Rank.KING, Suit.HEARTS), Card.of(Rank.QUEEN, Suit.CLUBS));
+        final List<Card> lastToPlayCards = List.of(Card.of(Rank.KING, Suit.SPADES), Card.of(Rank.KING, Suit.DIAMONDS), Card.of(Rank.QUEEN, Suit.HEARTS));
+        assertThat(sut.solve(vira, firstToPlayCards, lastToPlayCards)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not gain points by raising if the opponent knows the cards")
+    void shouldNotGainPointsByRaisingIfTheOpponentKnowsTheCards() {
+        final SplittableRandom random = new SplittableRandom(42);
+        final DealSource dealSource = DealSource.shuffled(random);
+        for (int i = 0; i < 50; i++) {
+            final Deal deal = dealSource.nextDeal();
+            final int cardPlayValue = sut.solve(deal.vira(), deal.firstToPlayCards(), deal.lastToPlayCards());
+            assertThat(sut.solve(deal.vira(), deal.firstToPlayCards(), deal.lastToPlayCards(), 12)).isEqualTo(cardPlayValue);
+        }
+    }
+
+    @Test
+    @DisplayName("Should solve a hand from its dealt cards")
+    void shouldSolveAHandFromItsDealtCards() {
+        final Player firstToPlay = Player.of(UUID.randomUUID(), "First");
+        final Player lastToPlay = Player.of(UUID.randomUUID(), "Last");
+        firstToPlay.setCards(ordinaryCards);
+        lastToPlay.setCards(manilhas);
+        assertThat(sut.solve(new Hand(firstToPlay, lastToPlay, vira))).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Should not solve a deal without three cards per player")
+    void shouldNotSolveADealWithoutThreeCardsPerPlayer() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.solve(vira, manilhas.subList(0, 2), ordinaryCards));
+    }
+
+    @Test
+    @DisplayName("Should not solve a deal with max hand points lower than one")
+    void shouldNotSolveADealWithMaxHandPointsLowerThanOne() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.solve(vira, manilhas, ordinaryCards, 0));
+    }
+}
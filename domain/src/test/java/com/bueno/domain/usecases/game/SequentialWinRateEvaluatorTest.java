@@ -0,0 +1,71 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.service.SequentialWinRateEvaluator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.bueno.domain.usecases.game.service.SequentialWinRateEvaluator.Outcome.*;
+import static org.assertj.core.api.Assertions.*;
+
+class SequentialWinRateEvaluatorTest {
+
+    private final SequentialWinRateEvaluator sut = new SequentialWinRateEvaluator(0.05, 0.1);
+
+    @Test
+    @DisplayName("Should not accept invalid error rate or margin")
+    void shouldNotAcceptInvalidErrorRateOrMargin() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new SequentialWinRateEvaluator(0.0, 0.1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SequentialWinRateEvaluator(0.5, 0.1));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SequentialWinRateEvaluator(0.05, 0.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> new SequentialWinRateEvaluator(0.05, 0.5));
+    }
+
+    @Test
+    @DisplayName("Should be undecided before any game is played")
+    void shouldBeUndecidedBeforeAnyGameIsPlayed() {
+        assertThat(sut.decide(0, 0)).isEqualTo(UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("Should decide lopsided matchups after a few games")
+    void shouldDecideLopsidedMatchupsAfterAFewGames() {
+        assertThat(sut.decide(20, 20)).isEqualTo(BETTER);
+        assertThat(sut.decide(0, 20)).isEqualTo(WORSE);
+    }
+
+    @Test
+    @DisplayName("Should be undecided in close matchups")
+    void shouldBeUndecidedInCloseMatchups() {
+        assertThat(sut.decide(52, 100)).isEqualTo(UNDECIDED);
+    }
+
+    @Test
+    @DisplayName("Should have more confidence in lopsided matchups")
+    void shouldHaveMoreConfidenceInLopsidedMatchups() {
+        assertThat(SequentialWinRateEvaluator.confidence(0, 0)).isEqualTo(0.5);
+        assertThat(SequentialWinRateEvaluator.confidence(50, 100)).isCloseTo(0.5, within(1e-6));
+        assertThat(SequentialWinRateEvaluator.confidence(60, 100)).isCloseTo(0.9772, within(1e-3));
+        assertThat(SequentialWinRateEvaluator.confidence(40, 100)).isCloseTo(0.9772, within(1e-3));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.dtos.PlayWithBotsDto;
+import com.bueno.domain.usecases.game.service.SimulationIdGenerator;
+import com.bueno.domain.usecases.game.service.SimulationService;
+import com.bueno.domain.usecases.game.service.SimulationStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulationServiceTest {
+
+    @Test
+    @DisplayName("Should play the same games if run with the same seed")
+    void shouldPlayTheSameGamesIfRunWithTheSameSeed() {
+        final List<PlayWithBotsDto> first = new SimulationService(UUID.randomUUID(), "DummyBot", "MalasiaBot").runInParallel(20, 42L);
+        final List<PlayWithBotsDto> second = new SimulationService(UUID.randomUUID(), "DummyBot", "MalasiaBot").runInParallel(20, 42L);
+        assertThat(first.stream().map(PlayWithBotsDto::name).toList())
+                .isEqualTo(second.stream().map(PlayWithBotsDto::name).toList());
+    }
+
+    @Test
+    @DisplayName("Should replay a single game of a seeded run")
+    void shouldReplayASingleGameOfASeededRun() {
+        final var sut = new SimulationService(UUID.randomUUID(), "DummyBot", "MalasiaBot");
+        final List<PlayWithBotsDto> results = sut.runInParallel(10, 7L);
+        assertThat(sut.replay(7L, 5).name()).isEqualTo(results.get(5).name());
+    }
+
+    @Test
+    @DisplayName("Should generate version 4 uuids from the random stream")
+    void shouldGenerateVersion4UuidsFromTheRandomStream() {
+        final UUID uuid = SimulationIdGenerator.next(new SplittableRandom(1));
+        assertThat(uuid.version()).isEqualTo(4);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid).isEqualTo(SimulationIdGenerator.next(new SplittableRandom(1)));
+    }
+
+    @Test
+    @DisplayName("Should aggregate the same wins of the listed results if run with the same seed")
+    void shouldAggregateTheSameWinsOfTheListedResultsIfRunWithTheSameSeed() {
+        final var sut = new SimulationService(UUID.randomUUID(), "DummyBot", "MalasiaBot");
+        final long wins = sut.runInParallel(20, 3L).stream().filter(result -> result.name().equals("MalasiaBot")).count();
+        final SimulationStatistics statistics = sut.aggregateInParallel(20, 3L);
+
+        assertThat(statistics.getWins("MalasiaBot")).isEqualTo(wins);
+        assertThat(statistics.getWins("DummyBot") + statistics.getWins("MalasiaBot")).isEqualTo(20);
+        assertThat(statistics.getGames("DummyBot")).isEqualTo(20);
+        assertThat(statistics.getHandsPlayed("DummyBot")).isEqualTo(statistics.getHandsPlayed());
+    }
+
+    @Test
+    @DisplayName("Should return zero for bots that have not played")
+    void shouldReturnZeroForBotsThatHaveNotPlayed() {
+        final var sut = new SimulationStatistics();
+        assertThat(sut.getWins("DummyBot")).isZero();
+        assertThat(sut.getAverageGameLength()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should play each deal twice and record symmetric paired differences")
+    void shouldPlayEachDealTwiceAndRecordSymmetricPairedDifferences() {
+        final var sut = new SimulationService(UUID.randomUUID(), "DummyBot", "MalasiaBot");
+        final SimulationStatistics statistics = sut.aggregateDuplicateInParallel(10, 3L);
+
+        assertThat(statistics.getGames()).isEqualTo(20);
+        assertThat(statistics.getPairs("DummyBot")).isEqualTo(10);
+        assertThat(statistics.getPairedWinDifference("DummyBot")).isEqualTo(-statistics.getPairedWinDifference("MalasiaBot"));
+        assertThat(statistics.getPairedWinDifference("DummyBot")).isBetween(-1.0, 1.0);
+    }
+
+    @Test
+    @DisplayName("Should record the points each bot gave away in the hands solved with perfect information")
+    void shouldRecordThePointsEachBotGaveAwayInTheHandsSolvedWithPerfectInformation() {
+        final var sut = new SimulationService(UUID.randomUUID(), "DummyBot", "MalasiaBot");
+        final SimulationStatistics statistics = sut.aggregateAgainstOptimalInParallel(10, 3L);
+
+        assertThat(statistics.getWins("DummyBot")).isEqualTo(sut.aggregateInParallel(10, 3L).getWins("DummyBot"));
+        assertThat(statistics.getSolvedHands("DummyBot")).isEqualTo(statistics.getSolvedHands("MalasiaBot"));
+        assertThat(statistics.getSolvedHands("DummyBot")).isPositive().isLessThanOrEqualTo(statistics.getHandsPlayed());
+        assertThat(statistics.getHandsBelowOptimal("DummyBot")).isLessThanOrEqualTo(statistics.getSolvedHands("DummyBot"));
+        assertThat(statistics.getOptimalityGap("DummyBot")).isNotNegative();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+
+package com.bueno.domain.usecases.game;
+
+import com.bueno.domain.usecases.game.service.SequentialWinRateEvaluator;
+import com.bueno.domain.usecases.game.service.TournamentScheduler;
+import com.bueno.domain.usecases.game.service.TournamentScheduler.MatchupResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+
+class TournamentSchedulerTest {
+
+    @Test
+    @DisplayName("Should play each pair of bots only once in round robin")
+    void shouldPlayEachPairOfBotsOnlyOnceInRoundRobin() {
+        final var sut = TournamentScheduler.roundRobin(List.of("DummyBot", "MalasiaBot", "TomeGapBot", "DummyBot"), 3, 1L);
+        assertThat(sut.numberOfMatchups()).isEqualTo(3);
+        assertThat(sut.numberOfGames()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Should not match evaluated bot against itself")
+    void shouldNotMatchEvaluatedBotAgainstItself() {
+        final var sut = TournamentScheduler.oneAgainstAll("DummyBot", List.of("DummyBot", "MalasiaBot", "TomeGapBot"), 3, 1L);
+        assertThat(sut.play()).extracting(MatchupResult::bot1Name).containsOnly("DummyBot");
+        assertThat(sut.play()).extracting(MatchupResult::bot2Name).containsExactly("MalasiaBot", "TomeGapBot");
+    }
+
+    @Test
+    @DisplayName("Should record all games of each matchup")
+    void shouldRecordAllGamesOfEachMatchup() {
+        final List<MatchupResult> results = TournamentScheduler.roundRobin(List.of("DummyBot", "MalasiaBot", "TomeGapBot"), 5, 1L).play();
+        assertThat(results).allSatisfy(result -> assertThat(result.statistics().getGames()).isEqualTo(5));
+    }
+
+    @Test
+    @DisplayName("Should stop lopsided matchups before the maximum number of games")
+    void shouldStopLopsidedMatchupsBeforeTheMaximumNumberOfGames() {
+        final var evaluator = new SequentialWinRateEvaluator(0.05, 0.2);
+        final List<MatchupResult> results = TournamentScheduler.oneAgainstAll("DummyBot", List.of("DummyBot", "MalasiaBot"), 500, 1L)
+                .playAdaptively(evaluator);
+        assertThat(results.get(0).statistics().getGames()).isBetween(1L, 499L);
+    }
+
+    @Test
+    @DisplayName("Should play the same games with or without a deadline if no bot is late")
+    void shouldPlayTheSameGamesWithOrWithoutADeadlineIfNoBotIsLate() {
+        final var sut = TournamentScheduler.roundRobin(List.of("DummyBot", "MalasiaBot"), 10, 1L);
+        final MatchupResult bounded = sut.play().get(0);
+        final MatchupResult unbounded = sut.withDeadline(null).play().get(0);
+        assertThat(bounded.statistics().getWins("DummyBot")).isEqualTo(unbounded.statistics().getWins("DummyBot"));
+        assertThat(bounded.statistics().getHandsPlayed()).isEqualTo(unbounded.statistics().getHandsPlayed());
+    }
+
+    @Test
+    @DisplayName("Should throw if bot names are null")
+    void shouldThrowIfBotNamesAreNull() {
+        assertThatNullPointerException().isThrownBy(() -> TournamentScheduler.roundRobin(null, 3, 1L));
+    }
+}
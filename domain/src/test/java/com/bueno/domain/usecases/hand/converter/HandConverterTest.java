@@ -0,0 +1,76 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.domain.usecases.hand.converter;
+
+import com.bueno.domain.entities.deck.Card;
+import com.bueno.domain.entities.game.Game;
+import com.bueno.domain.entities.hand.Hand;
+import com.bueno.domain.entities.player.Player;
+import com.bueno.domain.usecases.game.converter.PlayerConverter;
+import com.bueno.domain.usecases.hand.dtos.HandDto;
+import com.bueno.domain.usecases.intel.converters.IntelConverter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HandConverterTest {
+
+    private Player player1;
+    private Player player2;
+    private Hand hand;
+
+    @BeforeEach
+    void setUp() {
+        player1 = Player.of(UUID.randomUUID(), "User");
+        player2 = Player.ofBot("Bot");
+        hand = new Game(player1, player2).currentHand();
+
+        final Player firstToPlay = hand.getFirstToPlay();
+        final Card card = firstToPlay.play(firstToPlay.getCards().get(0));
+        hand.playFirstCard(firstToPlay, card);
+        hand.raise(hand.getCurrentPlayer());
+        hand.quit(hand.getCurrentPlayer());
+    }
+
+    @Test
+    @DisplayName("Should store the intel log instead of the intel history")
+    void shouldStoreTheIntelLogInsteadOfTheIntelHistory() {
+        final HandDto dto = HandConverter.toDto(hand);
+        assertThat(dto.history()).isEmpty();
+        assertThat(dto.intelLog()).hasSize(hand.intelHistorySize());
+    }
+
+    @Test
+    @DisplayName("Should rebuild the same intel history from the stored intel log")
+    void shouldRebuildTheSameIntelHistoryFromTheStoredIntelLog() {
+        final Player restoredPlayer1 = PlayerConverter.fromDto(PlayerConverter.toDto(player1));
+        final Player restoredPlayer2 = PlayerConverter.fromDto(PlayerConverter.toDto(player2));
+        final Hand restored = HandConverter.fromDto(HandConverter.toDto(hand), restoredPlayer1, restoredPlayer2);
+
+        assertThat(restored.getIntelHistory().stream().map(IntelConverter::toDto).toList())
+                .usingRecursiveComparison()
+                .isEqualTo(hand.getIntelHistory().stream().map(IntelConverter::toDto).toList());
+    }
+}
@@ -136,4 +136,26 @@ class HandleIntelUseCaseTest {
 
         assertThat(obtained.intelSinceBaseTimestamp()).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should throw if requests intel history with negative cursor")
+    void shouldThrowIfRequestsIntelHistoryWithNegativeCursor() {
+        assertThatIllegalArgumentException().isThrownBy(() -> sut.findIntelSince(p1Uuid, -1L));
+    }
+
+    @Test
+    @DisplayName("Should get only intel after cursor")
+    void shouldGetOnlyIntelAfterCursor() {
+        repo.save(GameConverter.toDto(game));
+        final var wholeHistory = sut.findIntelSince(p1Uuid, 0L);
+        final var intelSinceNextCursor = sut.findIntelSince(p1Uuid, wholeHistory.nextCursor());
+
+        final var expected = game.getIntelSince((Instant) null).stream()
+                .map(IntelConverter::toDto)
+                .collect(Collectors.toList());
+
+        assertThat(wholeHistory.intelSinceCursor()).isEqualTo(expected);
+        assertThat(wholeHistory.nextCursor()).isEqualTo(expected.size());
+        assertThat(intelSinceNextCursor.intelSinceCursor()).isEmpty();
+    }
+}
@@ -44,6 +44,7 @@ public class HandEntity {
     private List<String> openCards;
     private List<RoundEntity> roundsPlayed;
     private List<IntelEntity> history;
+    private List<IntelLogEntryEntity> intelLog;
     private Set<String> possibleActions;
     private UUID firstToPlay;
     private UUID lastToPlay;
@@ -61,12 +62,14 @@ public class HandEntity {
         final Function<PlayerDto, UUID> playerUuidOrNull = playerDto -> playerDto != null ? playerDto.uuid() : null;
         final List<RoundEntity> roundEntities = dto.roundsPlayed().stream().map(RoundEntity::from).toList();
         final List<IntelEntity> history = dto.history().stream().map(IntelEntity::from).toList();
+        final List<IntelLogEntryEntity> intelLog = dto.intelLog().stream().map(IntelLogEntryEntity::from).toList();
         return HandEntity.builder()
                 .vira(dto.vira().toString())
                 .dealtCard(mapToString.apply(dto.dealtCards()))
                 .openCards(mapToString.apply(dto.openCards()))
                 .roundsPlayed(roundEntities)
                 .history(history)
+                .intelLog(intelLog)
                 .possibleActions(dto.possibleActions())
                 .firstToPlay(dto.firstToPlay().uuid())
                 .lastToPlay(dto.lastToPlay().uuid())
@@ -91,6 +94,7 @@ public class HandEntity {
                 openCards.stream().map(toCardDto).toList(),
                 roundsPlayed.stream().map(round -> round.toDto(players)).toList(),
                 history.stream().map(IntelEntity::toDto).toList(),
+                intelLog != null ? intelLog.stream().map(IntelLogEntryEntity::toDto).toList() : List.of(),
                 possibleActions,
                 players.get(firstToPlay),
                 players.get(lastToPlay),
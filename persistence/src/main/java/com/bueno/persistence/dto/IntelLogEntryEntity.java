@@ -0,0 +1,109 @@
+/*
+ *  Copyright (C) 2024 Lucas B. R. de Oliveira - IFSP/SCL
+ *  Contact: lucas <dot> oliveira <at> ifsp <dot> edu <dot> br
+ *
+ *  This file is part of CTruco (Truco game for didactic purpose).
+ *
+ *  CTruco is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *
+ *  CTruco is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with CTruco.  If not, see <https://www.gnu.org/licenses/>
+ */
+
+package com.bueno.persistence.dto;
+
+import com.bueno.domain.usecases.hand.dtos.IntelLogEntryDto;
+import com.bueno.domain.usecases.intel.dtos.CardDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class IntelLogEntryEntity {
+    private Instant timestamp;
+    private String event;
+    private UUID eventPlayer;
+    private UUID currentPlayer;
+    private UUID firstToPlay;
+    private UUID lastToPlay;
+    private int firstToPlayScore;
+    private int lastToPlayScore;
+    private long firstToPlayCards;
+    private long lastToPlayCards;
+    private List<PlayerEntity> players;
+    private int points;
+    private int pointsProposal;
+    private UUID winner;
+    private Integer resultPoints;
+    private String cardToPlayAgainst;
+    private int numberOfOpenCards;
+    private int numberOfRoundsPlayed;
+    private Set<String> possibleActions;
+
+    public static IntelLogEntryEntity from(IntelLogEntryDto dto){
+        return IntelLogEntryEntity.builder()
+                .timestamp(dto.timestamp())
+                .event(dto.event())
+                .eventPlayer(dto.eventPlayer())
+                .currentPlayer(dto.currentPlayer())
+                .firstToPlay(dto.firstToPlay())
+                .lastToPlay(dto.lastToPlay())
+                .firstToPlayScore(dto.firstToPlayScore())
+                .lastToPlayScore(dto.lastToPlayScore())
+                .firstToPlayCards(dto.firstToPlayCards())
+                .lastToPlayCards(dto.lastToPlayCards())
+                .players(dto.players() != null ? dto.players().stream().map(PlayerEntity::from).toList() : null)
+                .points(dto.points())
+                .pointsProposal(dto.pointsProposal())
+                .winner(dto.winner())
+                .resultPoints(dto.resultPoints())
+                .cardToPlayAgainst(dto.cardToPlayAgainst() != null ? dto.cardToPlayAgainst().toString() : null)
+                .numberOfOpenCards(dto.numberOfOpenCards())
+                .numberOfRoundsPlayed(dto.numberOfRoundsPlayed())
+                .possibleActions(dto.possibleActions())
+                .build();
+    }
+
+    public IntelLogEntryDto toDto(){
+        final CardDto cardDto = cardToPlayAgainst != null ?
+                new CardDto(cardToPlayAgainst.substring(0, 1), cardToPlayAgainst.substring(1, 2)) : null;
+        return new IntelLogEntryDto(
+                timestamp,
+                event,
+                eventPlayer,
+                currentPlayer,
+                firstToPlay,
+                lastToPlay,
+                firstToPlayScore,
+                lastToPlayScore,
+                firstToPlayCards,
+                lastToPlayCards,
+                players != null ? players.stream().map(PlayerEntity::toDto).toList() : null,
+                points,
+                pointsProposal,
+                winner,
+                resultPoints,
+                cardDto,
+                numberOfOpenCards,
+                numberOfRoundsPlayed,
+                possibleActions
+        );
+    }
+}
@@ -25,6 +25,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.Instant;
@@ -57,4 +58,10 @@ public class IntelController {
         final var intelSince = intelUseCase.findIntelSince(uuid, timestamp);
         return ResponseEntity.ok(intelSince);
     }
+
+    @GetMapping(path = "/intel-since", params = "cursor")
+    private ResponseEntity<?> getIntelSinceCursor(@PathVariable UUID uuid, @RequestParam long cursor){
+        final var intelSince = intelUseCase.findIntelSince(uuid, cursor);
+        return ResponseEntity.ok(intelSince);
+    }
 }